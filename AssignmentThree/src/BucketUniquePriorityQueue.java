@@ -0,0 +1,247 @@
+import java.util.HashMap;
+
+/**
+ * Represents a priority queue implementation for priorities that are small multiples
+ * of a fixed resolution, for example 0 to 31.5 in steps of 0.5 with the default
+ * constructor. Priorities outside that set of levels are rejected.
+ *
+ * Each priority level has its own bucket, a FIFO list linked through the entries, and a
+ * bitmask records which buckets are non-empty, so the minimum is found with a single
+ * bit scan. A hash index maps each element to its entry. add, removeMin, peek,
+ * contains and updatePriority all take constant time.
+ *
+ * Elements with equal priorities leave the queue in the order they were added, and an
+ * element whose priority is updated goes behind the others of its new priority, as in
+ * ArrayUniquePriorityQueue.
+ *
+ * @param <T> the type of elements in the priority queue
+ */
+public class BucketUniquePriorityQueue<T> implements UniquePriorityQueueADT<T> {
+
+    /** The most buckets a queue can have, one per bit of the bitmask. */
+    public static final int MAX_BUCKETS = 64;
+
+    /** An element, linked into the list of its bucket. */
+    private static class Entry<T> {
+        private final T data;
+        private double priority;
+        private int bucket;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(T data) {
+            this.data = data;
+        }
+    }
+
+    private final double resolution;
+    private final Entry<T>[] heads; // First (oldest) entry of each bucket
+    private final Entry<T>[] tails; // Last (newest) entry of each bucket
+    private long nonEmpty; // Bit b is set when bucket b holds an entry
+    private final HashMap<T, Entry<T>> entries;
+
+    /**
+     * Constructs a new BucketUniquePriorityQueue for priorities 0, 0.5, 1.0, ... up to 31.5.
+     */
+    public BucketUniquePriorityQueue() {
+        this(0.5, MAX_BUCKETS);
+    }
+
+    /**
+     * Constructs a new BucketUniquePriorityQueue for priorities 0, resolution, 2 * resolution, ...
+     *
+     * @param resolution the difference between adjacent priority levels
+     * @param numBuckets the number of priority levels, at most MAX_BUCKETS
+     * @throws IllegalArgumentException if the resolution is not positive or numBuckets is out of range
+     */
+    public BucketUniquePriorityQueue(double resolution, int numBuckets) throws IllegalArgumentException {
+        if (!(resolution > 0)) {
+            throw new IllegalArgumentException("Resolution must be positive");
+        }
+        if (numBuckets < 1 || numBuckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Number of buckets must be 1-" + MAX_BUCKETS);
+        }
+        this.resolution = resolution;
+        this.heads = newBuckets(numBuckets);
+        this.tails = newBuckets(numBuckets);
+        this.entries = new HashMap<T, Entry<T>>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newBuckets(int numBuckets) {
+        return (Entry<T>[]) new Entry<?>[numBuckets];
+    }
+
+    /**
+     * Adds an element to the priority queue with the specified priority, if it's not already present.
+     *
+     * @param data the element to add
+     * @param prio the priority of the element
+     * @throws IllegalArgumentException if the priority is not one of the queue's levels
+     */
+    public void add(T data, double prio) throws IllegalArgumentException {
+        if (entries.containsKey(data)) {
+            return;
+        }
+        int bucket = bucketOf(prio);
+        Entry<T> entry = new Entry<T>(data);
+        entries.put(data, entry);
+        append(entry, prio, bucket);
+    }
+
+    /**
+     * Checks if the priority queue contains the specified element.
+     *
+     * @param data the element to check for
+     * @return true if the element is present, false otherwise
+     */
+    public boolean contains(T data) {
+        return entries.containsKey(data);
+    }
+
+    /**
+     * Retrieves the element with the highest priority from the priority queue without removing it.
+     *
+     * @return the element with the highest priority
+     * @throws CollectionException if the priority queue is empty
+     */
+    public T peek() throws CollectionException {
+        if (isEmpty()) {
+            throw new CollectionException("PQ is empty");
+        }
+        return heads[Long.numberOfTrailingZeros(nonEmpty)].data;
+    }
+
+    /**
+     * Removes and returns the element with the highest priority from the priority queue.
+     *
+     * @return the element with the highest priority
+     * @throws CollectionException if the priority queue is empty
+     */
+    public T removeMin() throws CollectionException {
+        if (isEmpty()) {
+            throw new CollectionException("PQ is empty");
+        }
+        Entry<T> entry = heads[Long.numberOfTrailingZeros(nonEmpty)];
+        unlink(entry);
+        entries.remove(entry.data);
+        return entry.data;
+    }
+
+    /**
+     * Updates the priority of an element in the priority queue.
+     *
+     * @param data    the element whose priority needs to be updated
+     * @param newPrio the new priority of the element
+     * @throws CollectionException if the specified element is not found in the priority queue
+     * @throws IllegalArgumentException if the priority is not one of the queue's levels
+     */
+    public void updatePriority(T data, double newPrio) throws CollectionException, IllegalArgumentException {
+        Entry<T> entry = entries.get(data);
+        if (entry == null) {
+            throw new CollectionException("Item not found in PQ");
+        }
+        int bucket = bucketOf(newPrio);
+        unlink(entry);
+        append(entry, newPrio, bucket);
+    }
+
+    /**
+     * Removes every element from the priority queue.
+     */
+    public void clear() {
+        while (nonEmpty != 0) {
+            int bucket = Long.numberOfTrailingZeros(nonEmpty);
+            heads[bucket] = null;
+            tails[bucket] = null;
+            nonEmpty &= nonEmpty - 1;
+        }
+        entries.clear();
+    }
+
+    /**
+     * Checks if the priority queue is empty.
+     *
+     * @return true if the priority queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return nonEmpty == 0;
+    }
+
+    /**
+     * Returns the number of elements in the priority queue.
+     *
+     * @return the number of elements in the priority queue
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a string representation of the priority queue, in the order the elements
+     * would be removed, in the same format as ArrayUniquePriorityQueue.
+     *
+     * @return a string representation of the priority queue
+     */
+    public String toString() {
+        if (isEmpty()) {
+            return "The PQ is empty";
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int bucket = 0; bucket < heads.length; bucket++) {
+            for (Entry<T> entry = heads[bucket]; entry != null; entry = entry.next) {
+                if (result.length() > 0) {
+                    result.append(", ");
+                }
+                result.append(entry.data).append(" [").append(entry.priority).append("]");
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the bucket for a priority, which must be a whole number of resolution steps.
+     */
+    private int bucketOf(double prio) throws IllegalArgumentException {
+        double steps = prio / resolution;
+        int bucket = (int) steps;
+        if (bucket != steps || bucket < 0 || bucket >= heads.length) {
+            throw new IllegalArgumentException("Priority " + prio + " is not a level of this queue");
+        }
+        return bucket;
+    }
+
+    private void append(Entry<T> entry, double prio, int bucket) {
+        entry.priority = prio;
+        entry.bucket = bucket;
+        entry.next = null;
+        entry.prev = tails[bucket];
+        if (tails[bucket] == null) {
+            heads[bucket] = entry;
+            nonEmpty |= 1L << bucket;
+        } else {
+            tails[bucket].next = entry;
+        }
+        tails[bucket] = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        int bucket = entry.bucket;
+        if (entry.prev == null) {
+            heads[bucket] = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            tails[bucket] = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        if (heads[bucket] == null) {
+            nonEmpty &= ~(1L << bucket);
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+}
@@ -1,13 +1,16 @@
+import java.util.Arrays;
+
 public class FrogPath {
-    private Pond pond; // The pond in which freddie navigates.
+    private PondModel pond; // The pond in which freddie navigates; never changed by a search.
     
     /**
-     * Initializes the pond with the provided txt file.
+     * Initializes the pond with the provided txt file. No window is opened; to watch a
+     * search, register a Pond as a listener of the SearchState passed to solve.
      * @param filename The name of the file containing txt .
      */
     public FrogPath(String filename) {
         try {
-            this.pond = new Pond(filename);
+            this.pond = new PondModel(filename);
         } catch (Exception e) {
             // Handle exceptions as needed
         	System.err.println(e.getMessage());
@@ -15,91 +18,103 @@ public class FrogPath {
     }
 
     /**
-     * Finds the best Hexagon cell to move to from the current cell, taking into account various criteria like avoiding mud cells,
+     * Initializes the search with an already loaded pond. The pond keeps no search state,
+     * so it can be shared by any number of FrogPaths, and a FrogPath can run searches from
+     * several threads at once.
+     * @param pond The pond in which freddie navigates.
+     */
+    public FrogPath(PondModel pond) {
+        this.pond = pond;
+    }
+
+    /**
+     * Finds the best cell to move to from the current cell, taking into account various criteria like avoiding mud cells,
      * preferring certain types of cells over others, and special handling for lily pad cells and their second-degree neighbors.
-     * @param currCell The current Hexagon cell.
-     * @return The best next Hexagon cell to move to, or null if no suitable cell is found.
+     * @param state The search whose marks and eaten flies apply.
+     * @param currCell The ID of the current cell.
+     * @return The ID of the best next cell, or PondModel.NONE if no suitable cell is found.
      */
-    public Hexagon findBest(Hexagon currCell) {
-        ArrayUniquePriorityQueue<Hexagon> priorityQueue = new ArrayUniquePriorityQueue<>();
+    public int findBest(SearchState state, int currCell) {
+        // Keep the best candidate of the step instead of queueing every candidate
+        state.numCandidates = 0;
+        state.bestCell = PondModel.NONE;
+        state.bestPriority = Double.POSITIVE_INFINITY;
 
         // Process direct neighbors for movement options
-        evaluateDirectNeighbors(currCell, priorityQueue);
+        evaluateDirectNeighbors(state, currCell);
 
         // Special handling for lily pad cells to consider second-degree neighbors
-        if (currCell.isLilyPadCell()) {
-            evaluateLilyPadNeighbors(currCell, priorityQueue);
+        if (pond.isLilyPadCell(currCell)) {
+            evaluateLilyPadNeighbors(state, currCell);
         }
 
-        return priorityQueue.isEmpty() ? null : priorityQueue.peek();
+        return state.bestCell;
     }
 
-    private void evaluateDirectNeighbors(Hexagon cell, ArrayUniquePriorityQueue<Hexagon> queue) {
+    private void evaluateDirectNeighbors(SearchState state, int cell) {
         for (int i = 0; i <= 5; i++) {
-            Hexagon neighbor = cell.getNeighbour(i);
-            if (isNeighborValid(neighbor)) {
-                evaluateAndQueueNeighbor(neighbor, queue, 0.0); // No adjustment for direct neighbors
+            int neighbor = pond.getNeighbour(cell, i);
+            if (isNeighborValid(state, neighbor)) {
+                evaluateNeighbor(state, neighbor, 0.0); // No adjustment for direct neighbors
             }
         }
     }
 
-    private void evaluateLilyPadNeighbors(Hexagon lilyPadCell, ArrayUniquePriorityQueue<Hexagon> queue) {
-        for (int i = 0; i <= 5; i++) {
-            Hexagon firstDegreeNeighbor = lilyPadCell.getNeighbour(i);
-            if (firstDegreeNeighbor != null) {
-                for (int j = 0; j <= 5; j++) {
-                    double priorityAdjustment = (i == j) ? 0.5 : 1.0;
-                    Hexagon secondDegreeNeighbor = firstDegreeNeighbor.getNeighbour(j);
-                    if (isNeighborValid(secondDegreeNeighbor)) {
-                        evaluateAndQueueNeighbor(secondDegreeNeighbor, queue, priorityAdjustment);
-                    }
-                }
+    private void evaluateLilyPadNeighbors(SearchState state, int lilyPadCell) {
+        // The pond lists the cells two steps away; a straight jump gets the smaller adjustment
+        for (int slot = 0; slot < 36; slot++) {
+            int secondDegreeNeighbor = pond.getSecondNeighbour(lilyPadCell, slot);
+            if (isNeighborValid(state, secondDegreeNeighbor)) {
+                double priorityAdjustment = PondModel.isStraightJump(slot) ? 0.5 : 1.0;
+                evaluateNeighbor(state, secondDegreeNeighbor, priorityAdjustment);
             }
         }
     }
 
-    private void evaluateAndQueueNeighbor(Hexagon neighbor, ArrayUniquePriorityQueue<Hexagon> queue, double adjustment) {
-        boolean neighborHasAlligator = checkForAlligator(neighbor);
-        double basePriority = calculateNeighborPriority(neighbor, neighborHasAlligator);
-        if (basePriority >= 0) { // Only queue neighbors with valid priority
-            queue.add(neighbor, basePriority + adjustment);
+    /**
+     * Offers a candidate cell. This picks the same cell a unique priority queue would:
+     * a cell keeps the priority it was first offered with, and among cells of equal
+     * priority the one offered first wins.
+     */
+    private void evaluateNeighbor(SearchState state, int neighbor, double adjustment) {
+        // A step has at most 42 candidates, so a scan finds a repeat faster than any lookup table
+        for (int i = 0; i < state.numCandidates; i++) {
+            if (state.candidates[i] == neighbor) {
+                return; // Already offered in this step; a queue would ignore the second add
+            }
+        }
+        state.candidates[state.numCandidates++] = neighbor;
+        boolean neighborHasAlligator = pond.isNearAlligator(neighbor);
+        double basePriority = calculateNeighborPriority(state, neighbor, neighborHasAlligator);
+        if (basePriority >= 0 && basePriority + adjustment < state.bestPriority) { // Only valid priorities count
+            state.bestCell = neighbor;
+            state.bestPriority = basePriority + adjustment;
         }
     }
 
-    private boolean isNeighborValid(Hexagon neighbor) {
-        return neighbor != null && !neighbor.isMudCell() && !neighbor.isMarked();
-    }
-
-    private boolean checkForAlligator(Hexagon cell) {
-        for (int i = 0; i <= 5; i++) {
-            Hexagon neighbor = cell.getNeighbour(i);
-            if (neighbor != null && neighbor.isAlligator()) {
-                return true;
-            }
-        }
-        return false;
+    private boolean isNeighborValid(SearchState state, int neighbor) {
+        return neighbor != PondModel.NONE && !pond.isMudCell(neighbor) && !state.isMarked(neighbor);
     }
 
-    private double calculateNeighborPriority(Hexagon cell, boolean hasAlligator) {
-        if (hasAlligator && cell.isReedsCell()) {
+    private double calculateNeighborPriority(SearchState state, int cell, boolean hasAlligator) {
+        if (hasAlligator && pond.isReedsCell(cell)) {
             return 10.0; // Reeds cell with neighboring alligator gets highest priority
         } else if (!hasAlligator) {
-            if (cell.isReedsCell()) {
+            if (pond.isReedsCell(cell)) {
                 return 5.0; // Preference for reeds cells without alligators
             }
-            if (cell.isWaterCell()) {
+            if (pond.isWaterCell(cell)) {
                 return 6.0; // Water cells have a higher priority than reeds without alligators
             }
-            if (cell.isLilyPadCell()) {
+            if (pond.isLilyPadCell(cell)) {
                 return 4.0; // Lily pads are considered moderately favorable
             }
-            if (cell.isEnd()) {
+            if (pond.isEnd(cell)) {
                 return 3.0; // End cells are least favorable, but still an option
             }
-            if (cell instanceof FoodHexagon) {
-                // Special handling for FoodHexagon cells based on the number of flies
-                FoodHexagon foodCell = (FoodHexagon) cell;
-                int numFlies = foodCell.getNumFlies();
+            if (pond.isFoodCell(cell)) {
+                // Special handling for food cells based on the number of flies
+                int numFlies = state.getNumFlies(cell);
                 switch (numFlies) {
                     case 1: return 2.0; // Single fly cells are low priority
                     case 2: return 1.0; // Cells with two flies are even lower priority
@@ -110,50 +125,86 @@ public class FrogPath {
         return -1; // No valid priority could be assigned based on the conditions
     }
 
+    /**
+     * Searches the pond for a path from the start to the end cell.
+     * @return The path in the text form "ID ID ... ate N flies", or "No solution".
+     */
     public String findPath() {
-        // Initialize a stack to keep track of the path taken by the frog.
-        ArrayStack<Hexagon> S = new ArrayStack<>();
-        // Start from the beginning of the pond.
-        S.push(pond.getStart());
+        return solve().toString();
+    }
+
+    /**
+     * Searches the pond for a path from the start to the end cell, recording the visited
+     * cells in an int array rather than in a string.
+     * @return The visited cells, the flies eaten and the number of backtracks.
+     */
+    public PathResult solve() {
+        return solve(new SearchState(pond));
+    }
+
+    /**
+     * Searches the pond for a path from the given cell to the end cell.
+     * @param startCell The ID of the cell the frog starts on.
+     * @return The visited cells, the flies eaten and the number of backtracks.
+     * @throws IllegalArgumentException If there is no cell with that ID.
+     */
+    public PathResult solve(int startCell) throws IllegalArgumentException {
+        return solve(new SearchState(pond, startCell));
+    }
+
+    /**
+     * Runs a search with the given state, which must be new or reset and belong to this pond.
+     * @param state The state of the search, holding its start cell, marks and listeners.
+     * @return The visited cells, the flies eaten and the number of backtracks.
+     */
+    public PathResult solve(SearchState state) {
+        // Initialize a stack to keep track of the path taken by the frog, as cell IDs.
+        IntArrayStack S = new IntArrayStack();
+        // Start from the start cell of the search.
+        S.push(state.getStartCell());
         // Mark the starting cell as part of the path.
-        pond.getStart().markInStack();
-        // Initialize the count of flies eaten.
+        state.markInStack(state.getStartCell());
+        // Initialize the count of flies eaten and of backtracks.
         int fliesEaten = 0;
-        // Initialize a string to describe the path taken.
-        String emptyString = "";
+        int backtracks = 0;
+        // Initialize the trace of visited cells; it doubles in size when full.
+        int[] trace = new int[16];
+        int traceLength = 0;
 
         // Continue as long as there are cells in the stack.
         while (!S.isEmpty()) {
             // Peek at the current cell without removing it from the stack.
-            Hexagon currCell = S.peek();
-            // Append the current cell to the path description.
-            emptyString = emptyString + currCell.toString() + " ";
+            int currCell = S.peek();
+            // Append the current cell to the trace.
+            if (traceLength == trace.length) {
+                trace = Arrays.copyOf(trace, trace.length * 2);
+            }
+            trace[traceLength++] = currCell;
 
-            // If the current cell is the end of the pond, return the path description and flies eaten.
-            if (currCell.isEnd()) {
-                return emptyString + "ate " + fliesEaten + " flies";
+            // If the current cell is the end of the pond, return the trace and flies eaten.
+            if (pond.isEnd(currCell)) {
+                return new PathResult(trace, traceLength, fliesEaten, backtracks, true);
             // If the current cell contains food, increase the flies eaten and remove the flies from the cell.
-            } else if (currCell instanceof FoodHexagon) {
-                FoodHexagon foodCell = (FoodHexagon) currCell;
-                fliesEaten += foodCell.getNumFlies();
-                foodCell.removeFlies();
+            } else if (pond.isFoodCell(currCell)) {
+                fliesEaten += state.eatFlies(currCell);
             }
 
             // Find the best next cell to move to from the current cell.
-            Hexagon nexCell = findBest(currCell);
+            int nexCell = findBest(state, currCell);
 
             // If there is no suitable next cell, pop the current cell from the stack and mark it as not part of the path.
-            if (nexCell == null) {
+            if (nexCell == PondModel.NONE) {
                 S.pop();
-                currCell.markOutStack();
+                state.markOutStack(currCell);
+                backtracks++;
             // Otherwise, push the next cell onto the stack and mark it as part of the path.
             } else {
                 S.push(nexCell);
-                nexCell.markInStack();
+                state.markInStack(nexCell);
             }
         }
-        // If no path to the end is found, return "No solution".
-        return "No solution";
+        // No path to the end was found.
+        return new PathResult(trace, traceLength, fliesEaten, backtracks, false);
     }
     
     // copied from the assignment for testing purposes only
@@ -162,9 +213,18 @@ public class FrogPath {
     	 System.out.println("No map file specified in the arguments");
     	 return;
     	 }
-    	 FrogPath fp = new FrogPath(args[0]);
+    	 PondModel model;
+    	 try {
+    	 model = new PondModel(args[0]);
+    	 } catch (Exception e) {
+    	 System.err.println(e.getMessage());
+    	 return;
+    	 }
+    	 SearchState state = new SearchState(model);
+    	 state.addListener(new Pond(model)); // Shows the search as it runs
+    	 FrogPath fp = new FrogPath(model);
     	 Hexagon.TIME_DELAY = 500; // Change this time delay as desired.
-    	 String result = fp.findPath();
+    	 String result = fp.solve(state).toString();
     	 System.out.println(result);
     }
 }
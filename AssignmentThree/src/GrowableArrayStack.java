@@ -0,0 +1,91 @@
+/**
+ * A StackADT backed by an array that doubles when full and halves when a quarter full.
+ * Unlike ArrayStack, which grows and shrinks by 10 slots, pushing n items copies O(n)
+ * items in total. After a shrink the array is half full, so alternating pushes and pops
+ * around the boundary cannot make it resize again and again.
+ */
+public class GrowableArrayStack<T> implements StackADT<T> {
+
+	private static final int MIN_CAPACITY = 10;
+
+	private T[] array;
+	private int top;
+
+	public GrowableArrayStack() {
+		array = newArray(MIN_CAPACITY);
+		top = -1;
+	}
+
+	public void push(T element) {
+		if (size() == array.length) {
+			resize(array.length * 2);
+		}
+		array[++top] = element;
+	}
+
+	public T pop() throws CollectionException {
+		if (isEmpty()) {
+			throw new CollectionException("Stack is empty");
+		}
+		T result = array[top];
+		array[top--] = null;
+
+		// Halve at a quarter full, so the array is half full afterwards
+		if (size() <= array.length / 4 && array.length / 2 >= MIN_CAPACITY) {
+			resize(array.length / 2);
+		}
+		return result;
+	}
+
+	public T peek() throws CollectionException {
+		if (isEmpty()) {
+			throw new CollectionException("Stack is empty");
+		}
+		return array[top];
+	}
+
+	public boolean isEmpty() {
+		return top < 0;
+	}
+
+	public int size() {
+		return top + 1;
+	}
+
+	public int getCapacity() {
+		return array.length;
+	}
+
+	public void clear() {
+		array = newArray(MIN_CAPACITY);
+		top = -1;
+	}
+
+	public String toString () {
+
+		if (isEmpty()) {
+			return "Empty stack.";
+		}
+
+		StringBuilder str = new StringBuilder("Stack: ");
+
+		for (int i = top; i >= 0; i--) {
+			str.append(array[i]);
+			str.append(i > 0 ? ", " : ".");
+		}
+
+		return str.toString();
+	}
+
+	private void resize (int capacity) {
+		T[] newArr = newArray(capacity);
+		System.arraycopy(array, 0, newArr, 0, size());
+		array = newArr;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] newArray (int capacity) {
+		return (T[])(new Object[capacity]);
+	}
+
+}
@@ -0,0 +1,265 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Represents a priority queue implementation using a binary min-heap, with a hash index
+ * from each element to its slot in the heap.
+ *
+ * Elements with equal priorities leave the queue in the order they were added, as in
+ * ArrayUniquePriorityQueue: every add takes a sequence number, and the heap is ordered
+ * by priority and then by sequence number. updatePriority takes a new sequence number,
+ * so the element goes behind the others of its new priority, again as in the array queue.
+ * add, removeMin and updatePriority are O(log n); contains and peek are O(1).
+ *
+ * @param <T> the type of elements in the priority queue
+ */
+public class IndexedHeapUniquePriorityQueue<T> implements UniquePriorityQueueADT<T> {
+
+    private T[] heap;
+    private double[] priority;
+    private long[] sequence;
+    private int count;
+    private long nextSequence;
+    private final HashMap<T, Integer> slots; // The heap slot of each element
+
+    /**
+     * Constructs a new IndexedHeapUniquePriorityQueue with an initial capacity of 10.
+     */
+    public IndexedHeapUniquePriorityQueue() {
+        final int INITIAL_CAPACITY = 10;
+        heap = newHeap(INITIAL_CAPACITY);
+        priority = new double[INITIAL_CAPACITY];
+        sequence = new long[INITIAL_CAPACITY];
+        slots = new HashMap<T, Integer>();
+        count = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newHeap(int capacity) {
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Adds an element to the priority queue with the specified priority, if it's not already present.
+     *
+     * @param data the element to add
+     * @param prio the priority of the element
+     */
+    public void add(T data, double prio) {
+        if (slots.containsKey(data)) {
+            return;
+        }
+
+        if (count == heap.length) {
+            T[] newHeap = newHeap(heap.length * 2);
+            double[] newPriority = new double[priority.length * 2];
+            long[] newSequence = new long[sequence.length * 2];
+            System.arraycopy(heap, 0, newHeap, 0, count);
+            System.arraycopy(priority, 0, newPriority, 0, count);
+            System.arraycopy(sequence, 0, newSequence, 0, count);
+            heap = newHeap;
+            priority = newPriority;
+            sequence = newSequence;
+        }
+
+        heap[count] = data;
+        priority[count] = prio;
+        sequence[count] = nextSequence++;
+        slots.put(data, count);
+        count++;
+        siftUp(count - 1);
+    }
+
+    /**
+     * Checks if the priority queue contains the specified element.
+     *
+     * @param data the element to check for
+     * @return true if the element is present, false otherwise
+     */
+    public boolean contains(T data) {
+        return slots.containsKey(data);
+    }
+
+    /**
+     * Retrieves the element with the highest priority from the priority queue without removing it.
+     *
+     * @return the element with the highest priority
+     * @throws CollectionException if the priority queue is empty
+     */
+    public T peek() throws CollectionException {
+        if (isEmpty()) {
+            throw new CollectionException("PQ is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the element with the highest priority from the priority queue.
+     *
+     * @return the element with the highest priority
+     * @throws CollectionException if the priority queue is empty
+     */
+    public T removeMin() throws CollectionException {
+        if (isEmpty()) {
+            throw new CollectionException("PQ is empty");
+        }
+
+        T minItem = heap[0];
+        slots.remove(minItem);
+        count--;
+        if (count > 0) {
+            move(count, 0);
+            siftDown(0);
+        }
+        heap[count] = null;
+        return minItem;
+    }
+
+    /**
+     * Updates the priority of an element in the priority queue.
+     *
+     * @param data    the element whose priority needs to be updated
+     * @param newPrio the new priority of the element
+     * @throws CollectionException if the specified element is not found in the priority queue
+     */
+    public void updatePriority(T data, double newPrio) throws CollectionException {
+        Integer slot = slots.get(data);
+        if (slot == null) {
+            throw new CollectionException("Item not found in PQ");
+        }
+
+        // A new sequence number puts the element behind the others with the same priority
+        int index = slot;
+        priority[index] = newPrio;
+        sequence[index] = nextSequence++;
+        siftDown(siftUp(index));
+    }
+
+    /**
+     * Checks if the priority queue is empty.
+     *
+     * @return true if the priority queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of elements in the priority queue.
+     *
+     * @return the number of elements in the priority queue
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the current capacity of the priority queue.
+     *
+     * @return the current capacity of the priority queue
+     */
+    public int getLength() {
+        return heap.length;
+    }
+
+    /**
+     * Returns a string representation of the priority queue, in the order the elements
+     * would be removed, in the same format as ArrayUniquePriorityQueue.
+     *
+     * @return a string representation of the priority queue
+     */
+    public String toString() {
+        if (isEmpty()) {
+            return "The PQ is empty";
+        }
+
+        // Sort the slots by priority and sequence number without disturbing the heap
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> less(a, b) ? -1 : (less(b, a) ? 1 : 0));
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            result.append(heap[order[i]]).append(" [").append(priority[order[i]]).append("]");
+
+            if (i < count - 1) {
+                result.append(", ");
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns true if the element in slot a leaves the queue before the one in slot b.
+     */
+    private boolean less(int a, int b) {
+        if (priority[a] != priority[b]) {
+            return priority[a] < priority[b];
+        }
+        return sequence[a] < sequence[b];
+    }
+
+    /**
+     * Moves the element in the given slot up to its place and returns its new slot.
+     */
+    private int siftUp(int index) {
+        T item = heap[index];
+        double itemPriority = priority[index];
+        long itemSequence = sequence[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (priority[parent] < itemPriority
+                    || (priority[parent] == itemPriority && sequence[parent] < itemSequence)) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        heap[index] = item;
+        priority[index] = itemPriority;
+        sequence[index] = itemSequence;
+        slots.put(item, index);
+        return index;
+    }
+
+    /**
+     * Moves the element in the given slot down to its place.
+     */
+    private void siftDown(int index) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= count) {
+                return;
+            }
+            if (child + 1 < count && less(child + 1, child)) {
+                child++;
+            }
+            if (!less(child, index)) {
+                return;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        priority[to] = priority[from];
+        sequence[to] = sequence[from];
+        slots.put(heap[to], to);
+    }
+
+    private void swap(int a, int b) {
+        T tempData = heap[a];
+        double tempPriority = priority[a];
+        long tempSequence = sequence[a];
+        move(b, a);
+        heap[b] = tempData;
+        priority[b] = tempPriority;
+        sequence[b] = tempSequence;
+        slots.put(tempData, b);
+    }
+}
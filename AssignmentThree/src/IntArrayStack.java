@@ -0,0 +1,84 @@
+/**
+ * A stack of int values, such as the cell IDs of a search path, stored without boxing.
+ * It grows and shrinks like GrowableArrayStack: the array doubles when full and halves
+ * when a quarter full, so pushing n values copies O(n) values in total.
+ */
+public class IntArrayStack {
+
+	private static final int MIN_CAPACITY = 10;
+
+	private int[] array;
+	private int top;
+
+	public IntArrayStack() {
+		array = new int[MIN_CAPACITY];
+		top = -1;
+	}
+
+	public void push(int element) {
+		if (size() == array.length) {
+			resize(array.length * 2);
+		}
+		array[++top] = element;
+	}
+
+	public int pop() throws CollectionException {
+		if (isEmpty()) {
+			throw new CollectionException("Stack is empty");
+		}
+		int result = array[top--];
+
+		// Halve at a quarter full, so the array is half full afterwards
+		if (size() <= array.length / 4 && array.length / 2 >= MIN_CAPACITY) {
+			resize(array.length / 2);
+		}
+		return result;
+	}
+
+	public int peek() throws CollectionException {
+		if (isEmpty()) {
+			throw new CollectionException("Stack is empty");
+		}
+		return array[top];
+	}
+
+	public boolean isEmpty() {
+		return top < 0;
+	}
+
+	public int size() {
+		return top + 1;
+	}
+
+	public int getCapacity() {
+		return array.length;
+	}
+
+	public void clear() {
+		array = new int[MIN_CAPACITY];
+		top = -1;
+	}
+
+	public String toString () {
+
+		if (isEmpty()) {
+			return "Empty stack.";
+		}
+
+		StringBuilder str = new StringBuilder("Stack: ");
+
+		for (int i = top; i >= 0; i--) {
+			str.append(array[i]);
+			str.append(i > 0 ? ", " : ".");
+		}
+
+		return str.toString();
+	}
+
+	private void resize (int capacity) {
+		int[] newArr = new int[capacity];
+		System.arraycopy(array, 0, newArr, 0, size());
+		array = newArr;
+	}
+
+}
@@ -0,0 +1,105 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * The outcome of a FrogPath search: the IDs of the cells in the order the frog visited
+ * them (a cell appears again each time the frog backs up onto it), the number of flies
+ * eaten and the number of times the frog had to back up.
+ *
+ * The text form, from toString or writeTo, is the one FrogPath.findPath has always
+ * returned: the visited IDs separated by spaces followed by "ate N flies", or
+ * "No solution" when the end could not be reached.
+ */
+public class PathResult {
+
+	private final int[] trace; // Visited cell IDs; only the first traceLength are used
+	private final int traceLength;
+	private final int fliesEaten;
+	private final int backtracks;
+	private final boolean solved;
+
+	PathResult (int[] trace, int traceLength, int fliesEaten, int backtracks, boolean solved) {
+		this.trace = trace;
+		this.traceLength = traceLength;
+		this.fliesEaten = fliesEaten;
+		this.backtracks = backtracks;
+		this.solved = solved;
+	}
+
+	/**
+	 * Tells whether the frog reached the end cell.
+	 * @return true if a path was found
+	 */
+	public boolean isSolved() {
+		return solved;
+	}
+
+	/**
+	 * Returns the IDs of the visited cells, in visiting order.
+	 * @return a new array holding the trace
+	 */
+	public int[] getTrace() {
+		return Arrays.copyOf(trace, traceLength);
+	}
+
+	public int getTraceLength() {
+		return traceLength;
+	}
+
+	/**
+	 * Returns the ID of the i-th visited cell.
+	 * @param i the position in the trace, from 0
+	 * @return the cell ID
+	 * @throws ArrayIndexOutOfBoundsException if i is not a position in the trace
+	 */
+	public int getTraceCell(int i) {
+		if (i < 0 || i >= traceLength) {
+			throw new ArrayIndexOutOfBoundsException(i);
+		}
+		return trace[i];
+	}
+
+	public int getFliesEaten() {
+		return fliesEaten;
+	}
+
+	/**
+	 * Returns the number of times the frog found no move and backed up to the previous cell.
+	 * @return the number of backtracks
+	 */
+	public int getBacktracks() {
+		return backtracks;
+	}
+
+	/**
+	 * Writes the text form of the result, without building it in memory first.
+	 * @param out where to write
+	 * @throws IOException if writing fails
+	 */
+	public void writeTo(Writer out) throws IOException {
+		appendTo(out);
+	}
+
+	private void appendTo(Appendable out) throws IOException {
+		if (!solved) {
+			out.append("No solution");
+			return;
+		}
+		for (int i = 0; i < traceLength; i++) {
+			out.append(Integer.toString(trace[i])).append(' ');
+		}
+		out.append("ate ").append(Integer.toString(fliesEaten)).append(" flies");
+	}
+
+	public String toString() {
+		StringBuilder result = new StringBuilder(solved ? 6 * traceLength + 16 : 11);
+		try {
+			appendTo(result);
+		} catch (IOException e) {
+			// A StringBuilder does not throw IOException
+		}
+		return result.toString();
+	}
+
+}
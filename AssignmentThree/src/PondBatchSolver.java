@@ -0,0 +1,166 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Solves many pond files without any display: each file is loaded and searched as its own
+ * task on a work-stealing ForkJoinPool, and the results are written in the order the files
+ * were given, one line per file: the file name, a tab, then the text FrogPath.findPath
+ * returns, or "ERROR" and a message if the file could not be solved. When every file is
+ * done, the throughput and the 50th, 90th and 99th percentile time per file are reported
+ * on standard error.
+ *
+ * Usage: java PondBatchSolver <directory | manifest> [threads]
+ * threads must be a positive whole number and defaults to the number of processors.
+ * A directory is solved file by file in name order; a manifest is a text file listing one
+ * pond file per line, relative to the manifest's folder, with blank lines and lines
+ * starting with # ignored.
+ */
+public class PondBatchSolver {
+
+	/** What solving one file produced. */
+	private static class Outcome {
+		private final Path file;
+		private final PathResult result; // null if the file failed
+		private final String error;
+		private final long nanos; // Time to load and solve the file
+
+		private Outcome (Path file, PathResult result, String error, long nanos) {
+			this.file = file;
+			this.result = result;
+			this.error = error;
+			this.nanos = nanos;
+		}
+	}
+
+	private static Outcome solve (Path file) {
+		long start = System.nanoTime();
+		try {
+			PathResult result = new FrogPath(new PondModel(file.toString())).solve();
+			return new Outcome(file, result, null, System.nanoTime() - start);
+		} catch (Exception e) {
+			return new Outcome(file, null, String.valueOf(e.getMessage()), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Solves the files on the pool and writes one result line per file, in the given order.
+	 * A line is written as soon as its file and every file before it are solved.
+	 *
+	 * @param files the pond files
+	 * @param pool the pool to solve them on
+	 * @param out where to write the results
+	 * @return the time taken by each file in nanoseconds, in the given order
+	 * @throws IOException if writing fails
+	 */
+	public static long[] solveAll (List<Path> files, ForkJoinPool pool, Writer out) throws IOException {
+		List<ForkJoinTask<Outcome>> tasks = new ArrayList<ForkJoinTask<Outcome>>(files.size());
+		for (final Path file : files) {
+			tasks.add(pool.submit(() -> solve(file)));
+		}
+
+		long[] nanos = new long[files.size()];
+		for (int i = 0; i < tasks.size(); i++) {
+			Outcome outcome = tasks.get(i).join();
+			tasks.set(i, null); // Let the finished result be collected
+			nanos[i] = outcome.nanos;
+			out.write(outcome.file.toString());
+			out.write('\t');
+			if (outcome.result != null) {
+				outcome.result.writeTo(out);
+			} else {
+				out.write("ERROR ");
+				out.write(outcome.error);
+			}
+			out.write('\n');
+		}
+		out.flush();
+		return nanos;
+	}
+
+	/**
+	 * Lists the pond files named by a directory or a manifest.
+	 *
+	 * @param source a directory of pond files, or a manifest file listing them
+	 * @return the pond files, in the order to solve them
+	 * @throws IOException if the directory or manifest cannot be read
+	 */
+	public static List<Path> listFiles (Path source) throws IOException {
+		List<Path> files = new ArrayList<Path>();
+		if (Files.isDirectory(source)) {
+			try (Stream<Path> entries = Files.list(source)) {
+				entries.filter(Files::isRegularFile).forEach(files::add);
+			}
+			Collections.sort(files);
+		} else {
+			try (BufferedReader in = new BufferedReader(new FileReader(source.toFile()))) {
+				String line;
+				while ((line = in.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#")) {
+						files.add(source.resolveSibling(line));
+					}
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Returns the value at the given percentile of sorted values, by the nearest-rank method.
+	 */
+	private static long percentile (long[] sorted, double p) {
+		int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	public static void main (String[] args) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		if (args.length == 2) {
+			try {
+				threads = Integer.parseInt(args[1]);
+			} catch (NumberFormatException e) {
+				threads = 0;
+			}
+		}
+		if (args.length < 1 || args.length > 2 || threads < 1) {
+			System.out.println("Usage: java PondBatchSolver <directory | manifest> [threads]");
+			return;
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			List<Path> files = listFiles(Paths.get(args[0]));
+			Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+
+			long start = System.nanoTime();
+			long[] nanos = solveAll(files, pool, out);
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			Arrays.sort(nanos);
+			System.err.println(String.format("Solved %d maps in %.3f s (%.1f maps/s) on %d threads",
+					nanos.length, seconds, nanos.length / seconds, threads));
+			if (nanos.length > 0) {
+				System.err.println(String.format("Time per map: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms",
+						percentile(nanos, 50) / 1e6, percentile(nanos, 90) / 1e6, percentile(nanos, 99) / 1e6));
+			}
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
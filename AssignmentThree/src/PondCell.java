@@ -0,0 +1,99 @@
+/**
+ * A view of one cell of a PondModel. It offers the same map queries as a Hexagon (type,
+ * neighbours and flies) but holds only the model and the cell ID, so views are cheap
+ * to create and two views of the same cell are equal. The marks of a search are kept
+ * in its SearchState. Neighbours are indexed 0-5 clockwise from the upper-right side,
+ * as for Hexagon.
+ */
+public class PondCell {
+
+	public static enum Type {
+		WATER, LILYPAD, REEDS, MUD, START, END, GATOR, FLY1, FLIES2, FLIES3
+	};
+
+	private final PondModel pond; // The pond holding this cell's data
+	private final int ID;
+
+	PondCell (PondModel pond, int cellID) {
+		this.pond = pond;
+		this.ID = cellID;
+	}
+
+	/**
+	 * Returns the neighbour on the i-th side of this cell.
+	 * @param i the index of the neighbour, 0-5 inclusive
+	 * @return the neighbouring cell, or null if there is none
+	 * @throws InvalidNeighbourIndexException when i is not 0-5
+	 */
+	public PondCell getNeighbour(int i) throws InvalidNeighbourIndexException {
+		if (i < 0 || i >= 6)
+			throw new InvalidNeighbourIndexException(i);
+		int neighbour = pond.getNeighbour(ID, i);
+		return neighbour == PondModel.NONE ? null : pond.getCell(neighbour);
+	}
+
+	public Type getType() {
+		return pond.getType(ID);
+	}
+
+	public boolean isStart() {
+		return pond.isStart(ID);
+	}
+
+	public boolean isEnd() {
+		return pond.isEnd(ID);
+	}
+
+	public boolean isAlligator() {
+		return pond.isAlligator(ID);
+	}
+
+	public boolean isLilyPadCell() {
+		return pond.isLilyPadCell(ID);
+	}
+
+	public boolean isReedsCell() {
+		return pond.isReedsCell(ID);
+	}
+
+	public boolean isWaterCell() {
+		return pond.isWaterCell(ID);
+	}
+
+	public boolean isMudCell() {
+		return pond.isMudCell(ID);
+	}
+
+	public boolean isFoodCell() {
+		return pond.isFoodCell(ID);
+	}
+
+	/**
+	 * Returns the flies on this cell when the pond was loaded.
+	 * @return the number of flies, 0-3
+	 */
+	public int getNumFlies() {
+		return pond.getNumFlies(ID);
+	}
+
+	public boolean equals(Object other) {
+		if (!(other instanceof PondCell)) {
+			return false;
+		}
+		PondCell cell = (PondCell) other;
+		return cell.pond == pond && cell.ID == ID;
+	}
+
+	public int hashCode() {
+		return ID;
+	}
+
+	public String toString() {
+		return String.valueOf(ID);
+	}
+
+	public int getID() {
+		return ID;
+	}
+
+}
@@ -0,0 +1,19 @@
+/**
+ * Observes the marks a search places on the cells of a PondModel.
+ * A view such as the Swing Pond is registered with SearchState.addListener
+ * to animate a search; a search with no listeners runs without any display.
+ */
+public interface PondListener {
+
+	/**
+	 * Called after a cell has been marked as being on the search stack.
+	 * @param cell the cell that was marked
+	 */
+	public void cellMarkedInStack(PondCell cell);
+
+	/**
+	 * Called after a cell has been popped from the search stack.
+	 * @param cell the cell that was marked
+	 */
+	public void cellMarkedOutStack(PondCell cell);
+}
@@ -0,0 +1,302 @@
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.StringTokenizer;
+
+/**
+ * The data of a pond map with no Swing classes involved. A PondModel does not change
+ * once loaded: FrogPath keeps the marks and eaten flies of each search in a SearchState,
+ * so one model can be searched any number of times, concurrently. A Swing Pond can be
+ * built from the model and registered as a PondListener of a SearchState to animate
+ * that search.
+ *
+ * Cells are identified by their ID, numbering the cells row by row from 0, and stored
+ * as parallel arrays rather than as objects: a byte per cell for the type and one for
+ * the flies, and six ints per cell for the neighbours.
+ * A cell costs about 30 bytes (144 more for a lily pad, see below), so ponds of
+ * millions of cells load quickly and the search reads neighbouring cells from
+ * adjacent memory. getCell returns a PondCell
+ * view of a cell for code that prefers objects.
+ *
+ * Loading also precomputes what the search asks of every candidate cell: a bitset of
+ * the cells next to an alligator, and for each lily pad cell (including the start and
+ * end) the 36 cells two steps away, so evaluating a step takes a few array reads.
+ *
+ * The map file format is the one read by Pond: an ignored first line, a line holding
+ * the number of rows, the number of columns and optionally a cell size, then one line
+ * of cell tokens per row.
+ */
+public class PondModel {
+
+	// Type codes stored in types[]; they are the PondCell.Type ordinals
+	private static final byte WATER = (byte) PondCell.Type.WATER.ordinal();
+	private static final byte LILYPAD = (byte) PondCell.Type.LILYPAD.ordinal();
+	private static final byte REEDS = (byte) PondCell.Type.REEDS.ordinal();
+	private static final byte MUD = (byte) PondCell.Type.MUD.ordinal();
+	private static final byte START = (byte) PondCell.Type.START.ordinal();
+	private static final byte END = (byte) PondCell.Type.END.ordinal();
+	private static final byte GATOR = (byte) PondCell.Type.GATOR.ordinal();
+	private static final byte FLY1 = (byte) PondCell.Type.FLY1.ordinal();
+	private static final byte FLIES2 = (byte) PondCell.Type.FLIES2.ordinal();
+	private static final byte FLIES3 = (byte) PondCell.Type.FLIES3.ordinal();
+	private static final PondCell.Type[] TYPES = PondCell.Type.values();
+
+	/** Neighbour ID meaning there is no neighbour on that side. */
+	public static final int NONE = -1;
+
+	private final int rows;
+	private final int cols;
+	private final int cellSize; // Cell size requested by the map file, or 0 if none
+	private final byte[] types; // Type code of each cell
+	private final byte[] flies; // Flies on each cell when the pond is loaded
+	private final int[] neighbours; // neighbours[6 * id + i] is the ID on side i of a cell, or NONE
+	private final BitSet nearGator = new BitSet(); // Cells with an alligator as a neighbour
+	private final int[] ringIndex; // Index of each lily pad cell's block in secondRing, or NONE
+	private final int[] secondRing; // Per lily pad cell, the 36 cells two steps away (see getSecondNeighbour)
+	private final int startCell;
+
+	public PondModel (String mapFile) throws InvalidMapException, FileNotFoundException, IOException {
+		// set up the file reader and skip the first line
+		BufferedReader in = new BufferedReader(new FileReader(mapFile));
+		int start = NONE;
+		try {
+			String line = in.readLine(); // Ignore first line
+			line = in.readLine();
+
+			// First line is the number of rows then the number of columns
+			StringTokenizer lineTokens = new StringTokenizer(line);
+			rows = Integer.parseInt(lineTokens.nextToken());
+			cols = Integer.parseInt(lineTokens.nextToken());
+			cellSize = lineTokens.hasMoreTokens() ? Integer.parseInt(lineTokens.nextToken()) : 0;
+
+			int numCells = rows * cols;
+			types = new byte[numCells];
+			flies = new byte[numCells];
+			neighbours = new int[6 * numCells];
+
+			int id = 0;
+			for (int r = 0; r < rows; r++) {
+				lineTokens = new StringTokenizer(in.readLine());
+				for (int c = 0; c < cols; c++) {
+					char token = lineTokens.nextToken().charAt(0);
+					byte type = typeOf(token);
+					types[id] = type;
+					if (type == START) {
+						start = id;
+					} else if (type == FLY1 || type == FLIES2 || type == FLIES3) {
+						flies[id] = (byte) (type - FLY1 + 1);
+					}
+					setNeighbours(id, r, c);
+					id++;
+				}
+			}
+		} finally {
+			in.close();
+		}
+		startCell = start;
+
+		// Every neighbour of an alligator is next to an alligator
+		int numLilyPads = 0;
+		for (int id = 0; id < types.length; id++) {
+			if (types[id] == GATOR) {
+				for (int i = 0; i < 6; i++) {
+					if (neighbours[6 * id + i] != NONE) {
+						nearGator.set(neighbours[6 * id + i]);
+					}
+				}
+			} else if (isLilyPadCell(id)) {
+				numLilyPads++;
+			}
+		}
+
+		// Second ring, for lily pad cells only: slot 6 * i + j holds neighbour j of neighbour i
+		ringIndex = new int[types.length];
+		secondRing = new int[36 * numLilyPads];
+		int block = 0;
+		for (int id = 0; id < types.length; id++) {
+			if (!isLilyPadCell(id)) {
+				ringIndex[id] = NONE;
+				continue;
+			}
+			ringIndex[id] = block;
+			for (int i = 0; i < 6; i++) {
+				int first = neighbours[6 * id + i];
+				for (int j = 0; j < 6; j++) {
+					secondRing[block + 6 * i + j] = first == NONE ? NONE : neighbours[6 * first + j];
+				}
+			}
+			block += 36;
+		}
+	}
+
+	/**
+	 * Fills in the six neighbours of the cell at row r, column c (both from 0).
+	 * Odd rows are shifted right by half a cell, so their upper and lower neighbours
+	 * are one column further right than those of even rows.
+	 */
+	private void setNeighbours(int id, int r, int c) {
+		int offset = r % 2;
+		int base = 6 * id;
+		neighbours[base] = idAt(r - 1, c + offset);
+		neighbours[base + 1] = idAt(r, c + 1);
+		neighbours[base + 2] = idAt(r + 1, c + offset);
+		neighbours[base + 3] = idAt(r + 1, c - 1 + offset);
+		neighbours[base + 4] = idAt(r, c - 1);
+		neighbours[base + 5] = idAt(r - 1, c - 1 + offset);
+	}
+
+	private int idAt(int r, int c) {
+		if (r < 0 || r >= rows || c < 0 || c >= cols) {
+			return NONE;
+		}
+		return r * cols + c;
+	}
+
+	private static byte typeOf(char token) throws InvalidMapException {
+		switch (token) {
+		case 'W': return WATER;
+		case 'L': return LILYPAD;
+		case 'R': return REEDS;
+		case 'M': return MUD;
+		case 'S': return START;
+		case 'E': return END;
+		case 'A': return GATOR;
+		case '1': return FLY1;
+		case '2': return FLIES2;
+		case '3': return FLIES3;
+		default:
+			throw new InvalidMapException(token);
+		}
+	}
+
+	/**
+	 * Returns the start cell.
+	 * @return a view of the start cell, or null if the map has none
+	 */
+	public PondCell getStart() {
+		return startCell == NONE ? null : getCell(startCell);
+	}
+
+	/**
+	 * Returns the ID of the start cell.
+	 * @return the ID, or NONE if the map has no start cell
+	 */
+	public int getStartID() {
+		return startCell;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	/**
+	 * Returns the cell size given in the map file.
+	 * @return the requested cell size in pixels, or 0 if the file gives none
+	 */
+	public int getCellSize() {
+		return cellSize;
+	}
+
+	public int getNumCells() {
+		return types.length;
+	}
+
+	/**
+	 * Returns a view of the cell with the given ID.
+	 * @param id the ID of the cell
+	 * @return the cell
+	 */
+	public PondCell getCell(int id) {
+		return new PondCell(this, id);
+	}
+
+	/**
+	 * Returns the neighbour on the i-th side of a cell, without checking i.
+	 * @param id the ID of the cell
+	 * @param i the side, 0-5 clockwise from the upper-right
+	 * @return the ID of the neighbour, or NONE if there is none
+	 */
+	public int getNeighbour(int id, int i) {
+		return neighbours[6 * id + i];
+	}
+
+	/**
+	 * Returns a cell two steps away from a lily pad cell, without checking its arguments.
+	 * Slot 6 * i + j holds neighbour j of neighbour i; the two steps go the same way,
+	 * a straight jump, exactly when isStraightJump(slot) is true.
+	 * @param id the ID of a cell for which isLilyPadCell is true
+	 * @param slot the slot, 0-35
+	 * @return the ID of the cell, or NONE if there is none
+	 */
+	public int getSecondNeighbour(int id, int slot) {
+		return secondRing[ringIndex[id] + slot];
+	}
+
+	/**
+	 * Tells whether a getSecondNeighbour slot is reached by two steps in the same direction.
+	 * @param slot the slot, 0-35
+	 * @return true for slots 0, 7, 14, 21, 28 and 35
+	 */
+	public static boolean isStraightJump(int slot) {
+		return slot % 7 == 0;
+	}
+
+	/**
+	 * Tells whether any neighbour of a cell is an alligator.
+	 * @param id the ID of the cell
+	 * @return true if the cell is next to an alligator
+	 */
+	public boolean isNearAlligator(int id) {
+		return nearGator.get(id);
+	}
+
+	public PondCell.Type getType(int id) {
+		return TYPES[types[id]];
+	}
+
+	public boolean isStart(int id) {
+		return types[id] == START;
+	}
+
+	public boolean isEnd(int id) {
+		return types[id] == END;
+	}
+
+	public boolean isAlligator(int id) {
+		return types[id] == GATOR;
+	}
+
+	public boolean isLilyPadCell(int id) {
+		// Starting cell and ending cell are also lilypad cells.
+		byte type = types[id];
+		return type == LILYPAD || type == START || type == END;
+	}
+
+	public boolean isReedsCell(int id) {
+		return types[id] == REEDS;
+	}
+
+	public boolean isWaterCell(int id) {
+		return types[id] == WATER;
+	}
+
+	public boolean isMudCell(int id) {
+		return types[id] == MUD;
+	}
+
+	public boolean isFoodCell(int id) {
+		byte type = types[id];
+		return type == FLY1 || type == FLIES2 || type == FLIES3;
+	}
+
+	public int getNumFlies(int id) {
+		return flies[id];
+	}
+
+}
@@ -0,0 +1,135 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The state of one FrogPath search over a PondModel: which cells are marked in or out of
+ * the stack, which food cells have been eaten, and the scratch space findBest needs.
+ * The pond itself is never changed, so one loaded pond can serve any number of searches,
+ * from any start cell and from many threads at once, each with its own SearchState.
+ *
+ * The marks are bitsets that only grow as far as the highest cell marked, so a state is
+ * cheap to create even for a very large pond. A state is used by one thread at a time;
+ * reset makes it ready for another search.
+ */
+public class SearchState {
+
+	private final PondModel pond;
+	private final int startCell;
+	private final BitSet inStack = new BitSet();
+	private final BitSet outStack = new BitSet();
+	private final BitSet eaten = new BitSet(); // Food cells whose flies have been eaten
+	private final List<PondListener> listeners = new ArrayList<PondListener>();
+
+	// Scratch for FrogPath.findBest: the candidates offered in the current step and the best of them.
+	// A step offers at most 6 direct and 36 second-ring cells.
+	final int[] candidates = new int[42];
+	int numCandidates;
+	int bestCell;
+	double bestPriority;
+
+	/**
+	 * Creates the state for a search from the pond's start cell.
+	 * @param pond the pond to search
+	 */
+	public SearchState (PondModel pond) {
+		this(pond, pond.getStartID());
+	}
+
+	/**
+	 * Creates the state for a search from any cell of the pond.
+	 * @param pond the pond to search
+	 * @param startCell the ID of the cell the frog starts on
+	 * @throws IllegalArgumentException if there is no such cell
+	 */
+	public SearchState (PondModel pond, int startCell) throws IllegalArgumentException {
+		if (startCell < 0 || startCell >= pond.getNumCells()) {
+			throw new IllegalArgumentException("No cell with ID " + startCell);
+		}
+		this.pond = pond;
+		this.startCell = startCell;
+	}
+
+	public PondModel getPond() {
+		return pond;
+	}
+
+	public int getStartCell() {
+		return startCell;
+	}
+
+	/**
+	 * Clears the marks and eaten flies, so the state can be used for a new search.
+	 * The listeners stay registered.
+	 */
+	public void reset() {
+		inStack.clear();
+		outStack.clear();
+		eaten.clear();
+	}
+
+	public boolean isMarked(int id) {
+		// Checks if cell is marked in stack OR out of stack.
+		return inStack.get(id) || outStack.get(id);
+	}
+
+	public boolean isMarkedInStack(int id) {
+		return inStack.get(id);
+	}
+
+	public boolean isMarkedOutStack(int id) {
+		return outStack.get(id);
+	}
+
+	/**
+	 * Returns the flies left on a cell in this search.
+	 * @param id the ID of the cell
+	 * @return the flies the pond started with, or 0 once they have been eaten
+	 */
+	public int getNumFlies(int id) {
+		return eaten.get(id) ? 0 : pond.getNumFlies(id);
+	}
+
+	/**
+	 * Eats the flies on a cell.
+	 * @param id the ID of the cell
+	 * @return the number of flies eaten
+	 */
+	public int eatFlies(int id) {
+		int flies = getNumFlies(id);
+		eaten.set(id);
+		return flies;
+	}
+
+	/**
+	 * Marks a cell as in-stack and tells the listeners.
+	 * @param id the ID of the cell
+	 */
+	public void markInStack(int id) {
+		inStack.set(id);
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).cellMarkedInStack(pond.getCell(id));
+		}
+	}
+
+	/**
+	 * Marks a cell as popped and tells the listeners.
+	 * @param id the ID of the cell
+	 */
+	public void markOutStack(int id) {
+		inStack.clear(id);
+		outStack.set(id);
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).cellMarkedOutStack(pond.getCell(id));
+		}
+	}
+
+	public void addListener(PondListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(PondListener listener) {
+		listeners.remove(listener);
+	}
+
+}
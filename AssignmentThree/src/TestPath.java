@@ -1,3 +1,13 @@
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
 import javax.swing.JOptionPane;
 
 public class TestPath {
@@ -39,14 +49,93 @@ public class TestPath {
 		}
 	}
 	
+	private static void runResultTest (int num) {
+		try {
+			PathResult result = new FrogPath("pond" + num + ".txt").solve();
+			StringWriter out = new StringWriter();
+			result.writeTo(out);
+			int[] trace = result.getTrace();
+			boolean consistent = result.isSolved() == !expOutputs[num-1].equals("No solution")
+					&& trace.length == result.getTraceLength()
+					&& (trace.length == 0 || trace[0] == result.getTraceCell(0));
+			if (out.toString().equals(expOutputs[num-1]) && consistent) {
+				System.out.println("TestPath - Result Test " + num + " Passed");
+			} else {
+				System.out.println("TestPath - Result Test " + num + " Failed");
+			}
+		} catch (Exception e) {
+			System.out.println("TestPath - Result Test " + num + " Failed (exception)");
+		}
+	}
+	
+	private static void runSharedPondTest () {
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			// Load each pond once and search it repeatedly, from several threads at once
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int num = 1; num <= 9; num++) {
+				final FrogPath prog = new FrogPath(new PondModel("pond" + num + ".txt"));
+				final String expected = expOutputs[num-1];
+				for (int k = 0; k < 8; k++) {
+					results.add(pool.submit(() -> prog.findPath().equals(expected)));
+				}
+			}
+			boolean passed = true;
+			for (Future<Boolean> result : results) {
+				passed &= result.get();
+			}
+
+			// Searches may start anywhere; pond 1 starts on cell 12 and ends on cell 24
+			FrogPath prog = new FrogPath(new PondModel("pond1.txt"));
+			passed &= prog.solve(12).toString().equals(expOutputs[0]);
+			passed &= prog.solve(24).toString().equals("24 ate 0 flies");
+			System.out.println("TestPath - Shared Pond Test " + (passed ? "Passed" : "Failed"));
+		} catch (Exception e) {
+			System.out.println("TestPath - Shared Pond Test Failed (exception)");
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	private static void runBatchTest () {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<Path> files = new ArrayList<Path>();
+			StringBuilder expected = new StringBuilder();
+			for (int num = 9; num >= 1; num--) { // Results must come out in submission order
+				files.add(Paths.get("pond" + num + ".txt"));
+				expected.append("pond" + num + ".txt\t" + expOutputs[num-1] + "\n");
+			}
+			files.add(Paths.get("missing.txt"));
+			StringWriter out = new StringWriter();
+			long[] nanos = PondBatchSolver.solveAll(files, pool, out);
+			boolean passed = nanos.length == 10 && out.toString().startsWith(expected.toString())
+					&& out.toString().substring(expected.length()).startsWith("missing.txt\tERROR ");
+			System.out.println("TestPath - Batch Test " + (passed ? "Passed" : "Failed"));
+		} catch (Exception e) {
+			System.out.println("TestPath - Batch Test Failed (exception)");
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
 	public static void main(String[] args) {
 		
-		Hexagon.TIME_DELAY = 0;
-
 		// Run all tests sequentially.
 		for (int i = 1; i <= 9; i++) {
 			runTest(i);
 		}
+
+		// The structured result must stream the same text.
+		for (int i = 1; i <= 9; i++) {
+			runResultTest(i);
+		}
+
+		// One loaded pond serves many searches.
+		runSharedPondTest();
+
+		// Many pond files solved in parallel.
+		runBatchTest();
 		
 	}
 
@@ -0,0 +1,80 @@
+public class TestStack {
+
+	private static boolean test01 () {
+		boolean b1 = false;
+		GrowableArrayStack<String> s = new GrowableArrayStack<String>();
+		try {
+			s.pop();
+		} catch (CollectionException e) {
+			b1 = e.getMessage().equals("CollectionException: Stack is empty");
+		}
+		boolean b2 = s.isEmpty() && s.toString().equals("Empty stack.") && s.getCapacity() == 10;
+		s.push("a");
+		s.push("b");
+		s.push("c");
+		boolean b3 = s.size() == 3 && s.peek().equals("c") && s.toString().equals("Stack: c, b, a.");
+		return b1 && b2 && b3 && s.pop().equals("c") && s.pop().equals("b") && s.size() == 1;
+	}
+
+	private static boolean test02 () {
+		GrowableArrayStack<Integer> s = new GrowableArrayStack<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			s.push(i);
+		}
+		boolean b1 = s.size() == 1000 && s.getCapacity() == 1280; // 10 doubled seven times
+		for (int i = 0; i < 680; i++) {
+			s.pop();
+		}
+		boolean b2 = s.size() == 320 && s.getCapacity() == 640; // Halved once, at a quarter full
+		// Pushing and popping around the boundary must not resize again
+		for (int i = 0; i < 100; i++) {
+			s.push(i);
+			s.pop();
+		}
+		return b1 && b2 && s.getCapacity() == 640 && s.peek() == 319;
+	}
+
+	private static boolean test03 () {
+		boolean b1 = false;
+		IntArrayStack s = new IntArrayStack();
+		try {
+			s.peek();
+		} catch (CollectionException e) {
+			b1 = e.getMessage().equals("CollectionException: Stack is empty");
+		}
+		for (int i = 0; i < 100000; i++) {
+			s.push(i);
+		}
+		boolean b2 = s.size() == 100000 && s.peek() == 99999;
+		for (int i = 99999; i >= 3; i--) {
+			if (s.pop() != i) return false;
+		}
+		boolean b3 = s.toString().equals("Stack: 2, 1, 0.") && s.getCapacity() == 10;
+		s.clear();
+		return b1 && b2 && b3 && s.isEmpty();
+	}
+
+
+	public static void main(String[] args) {
+
+		// GrowableArrayStack: push, pop, peek, toString
+		try {
+			if (test01()) System.out.println("TestStack - Test 1 Passed");
+			else System.out.println("TestStack - Test 1 Failed");
+		} catch (Exception e) { System.out.println("TestStack - Test 1 Failed (exception)"); }
+
+		// GrowableArrayStack: doubling and halving
+		try {
+			if (test02()) System.out.println("TestStack - Test 2 Passed");
+			else System.out.println("TestStack - Test 2 Failed");
+		} catch (Exception e) { System.out.println("TestStack - Test 2 Failed (exception)"); }
+
+		// IntArrayStack
+		try {
+			if (test03()) System.out.println("TestStack - Test 3 Passed");
+			else System.out.println("TestStack - Test 3 Failed");
+		} catch (Exception e) { System.out.println("TestStack - Test 3 Failed (exception)"); }
+
+	}
+
+}
@@ -113,7 +113,128 @@ public class TestUPQ {
 		return b1 && s.equals("yellow [2.0], black [2.0], blue [3.0], pink [3.0], cyan [5.0], white [5.0], red [7.0], green [8.0], orange [8.0], purple [9.0]");
 	}
 	
+	private static boolean test09 () {
+		IndexedHeapUniquePriorityQueue<String> pq = new IndexedHeapUniquePriorityQueue<String>();
+		boolean b1 = pq.isEmpty() && pq.toString().equals("The PQ is empty");
+		pq.add("green", 8.0);
+		pq.add("yellow", 2.0);
+		pq.add("blue", 3.0);
+		pq.add("purple", 9.0);
+		pq.add("red", 7.0);
+		pq.add("black", 2.0);
+		pq.add("white", 1.0);
+		pq.add("orange", 8.0);
+		pq.add("pink", 9.0);
+		pq.add("cyan", 1.0);
+		pq.add("green", 0.0); // Already present, so ignored
+		boolean b2 = pq.size() == 10 && pq.contains("pink") && !pq.contains("magenta") && pq.peek().equals("white");
+		return b1 && b2 && pq.toString().equals("white [1.0], cyan [1.0], yellow [2.0], black [2.0], blue [3.0], red [7.0], green [8.0], orange [8.0], purple [9.0], pink [9.0]");
+	}
+	
+	private static boolean test10 () {
+		boolean b1 = false;
+		IndexedHeapUniquePriorityQueue<String> pq = new IndexedHeapUniquePriorityQueue<String>();
+		pq.add("green", 8.0);
+		pq.add("yellow", 2.0);
+		pq.add("blue", 3.0);
+		pq.add("purple", 9.0);
+		pq.add("red", 7.0);
+		pq.add("black", 2.0);
+		pq.add("white", 1.0);
+		pq.add("orange", 8.0);
+		pq.add("pink", 9.0);
+		pq.add("cyan", 5.0);
+		try {
+			pq.updatePriority("magenta", 4.0);
+		} catch (CollectionException e) {
+			b1 = e.getMessage().equals("CollectionException: Item not found in PQ");
+		}
+		pq.updatePriority("pink", 3.0);
+		pq.updatePriority("white", 5.0);
+		String s = pq.toString();
+		boolean b2 = s.equals("yellow [2.0], black [2.0], blue [3.0], pink [3.0], cyan [5.0], white [5.0], red [7.0], green [8.0], orange [8.0], purple [9.0]");
+		boolean b3 = pq.removeMin().equals("yellow") && pq.removeMin().equals("black") && pq.removeMin().equals("blue");
+		return b1 && b2 && b3 && pq.size() == 7;
+	}
+	
+	private static boolean test11 () {
+		// The heap must hand out the same elements in the same order as the array queue
+		ArrayUniquePriorityQueue<Integer> expected = new ArrayUniquePriorityQueue<Integer>();
+		IndexedHeapUniquePriorityQueue<Integer> pq = new IndexedHeapUniquePriorityQueue<Integer>();
+		java.util.Random random = new java.util.Random(1027);
+		for (int step = 0; step < 5000; step++) {
+			int item = random.nextInt(200);
+			double prio = random.nextInt(12) * 0.5; // Few distinct priorities, so many ties
+			int op = random.nextInt(4);
+			if (op <= 1) {
+				expected.add(item, prio);
+				pq.add(item, prio);
+			} else if (op == 2 && expected.contains(item)) {
+				expected.updatePriority(item, prio);
+				pq.updatePriority(item, prio);
+			} else if (!expected.isEmpty()) {
+				if (!expected.removeMin().equals(pq.removeMin())) return false;
+			}
+			if (expected.size() != pq.size() || expected.contains(item) != pq.contains(item)) return false;
+		}
+		return expected.toString().equals(pq.toString());
+	}
 	
+	private static boolean test12 () {
+		boolean b1 = false, b2 = false;
+		BucketUniquePriorityQueue<String> pq = new BucketUniquePriorityQueue<String>();
+		try {
+			pq.removeMin();
+		} catch (CollectionException e) {
+			b1 = e.getMessage().equals("CollectionException: PQ is empty");
+		}
+		pq.add("green", 8.0);
+		pq.add("yellow", 2.0);
+		pq.add("blue", 3.0);
+		pq.add("purple", 9.0);
+		pq.add("red", 7.0);
+		pq.add("black", 2.0);
+		pq.add("white", 1.0);
+		pq.add("orange", 8.0);
+		pq.add("pink", 9.0);
+		pq.add("cyan", 5.0);
+		pq.add("green", 0.0); // Already present, so ignored
+		pq.updatePriority("pink", 3.0);
+		pq.updatePriority("white", 5.0);
+		try {
+			pq.add("magenta", 0.25); // Not a multiple of 0.5
+		} catch (IllegalArgumentException e) {
+			b2 = !pq.contains("magenta");
+		}
+		String s = pq.toString();
+		boolean b3 = s.equals("yellow [2.0], black [2.0], blue [3.0], pink [3.0], cyan [5.0], white [5.0], red [7.0], green [8.0], orange [8.0], purple [9.0]");
+		boolean b4 = pq.peek().equals("yellow") && pq.removeMin().equals("yellow") && pq.removeMin().equals("black") && pq.size() == 8;
+		pq.clear();
+		return b1 && b2 && b3 && b4 && pq.isEmpty() && pq.toString().equals("The PQ is empty");
+	}
+	
+	private static boolean test13 () {
+		// The bucket queue must hand out the same elements in the same order as the array queue
+		ArrayUniquePriorityQueue<Integer> expected = new ArrayUniquePriorityQueue<Integer>();
+		BucketUniquePriorityQueue<Integer> pq = new BucketUniquePriorityQueue<Integer>();
+		java.util.Random random = new java.util.Random(2027);
+		for (int step = 0; step < 5000; step++) {
+			int item = random.nextInt(200);
+			double prio = random.nextInt(23) * 0.5; // FrogPath's levels, 0 to 11
+			int op = random.nextInt(4);
+			if (op <= 1) {
+				expected.add(item, prio);
+				pq.add(item, prio);
+			} else if (op == 2 && expected.contains(item)) {
+				expected.updatePriority(item, prio);
+				pq.updatePriority(item, prio);
+			} else if (!expected.isEmpty()) {
+				if (!expected.removeMin().equals(pq.removeMin())) return false;
+			}
+			if (expected.size() != pq.size() || expected.contains(item) != pq.contains(item)) return false;
+		}
+		return expected.toString().equals(pq.toString());
+	}
 	
 	
 	public static void main(String[] args) {
@@ -165,6 +286,36 @@ public class TestUPQ {
 			if (test08()) System.out.println("TestUPQ - Test 8 Passed");
 			else System.out.println("TestUPQ - Test 8 Failed");
 		} catch (Exception e) { System.out.println("TestUPQ - Test 8 Failed (exception)"); }
+		
+		// indexed heap: add, contains, peek, toString
+		try {
+			if (test09()) System.out.println("TestUPQ - Test 9 Passed");
+			else System.out.println("TestUPQ - Test 9 Failed");
+		} catch (Exception e) { System.out.println("TestUPQ - Test 9 Failed (exception)"); }
+		
+		// indexed heap: updatePriority, removeMin
+		try {
+			if (test10()) System.out.println("TestUPQ - Test 10 Passed");
+			else System.out.println("TestUPQ - Test 10 Failed");
+		} catch (Exception e) { System.out.println("TestUPQ - Test 10 Failed (exception)"); }
+		
+		// indexed heap matches the array queue
+		try {
+			if (test11()) System.out.println("TestUPQ - Test 11 Passed");
+			else System.out.println("TestUPQ - Test 11 Failed");
+		} catch (Exception e) { System.out.println("TestUPQ - Test 11 Failed (exception)"); }
+		
+		// bucket queue: add, updatePriority, removeMin, clear
+		try {
+			if (test12()) System.out.println("TestUPQ - Test 12 Passed");
+			else System.out.println("TestUPQ - Test 12 Failed");
+		} catch (Exception e) { System.out.println("TestUPQ - Test 12 Failed (exception)"); }
+		
+		// bucket queue matches the array queue
+		try {
+			if (test13()) System.out.println("TestUPQ - Test 13 Passed");
+			else System.out.println("TestUPQ - Test 13 Failed");
+		} catch (Exception e) { System.out.println("TestUPQ - Test 13 Failed (exception)"); }
 
 	}
 
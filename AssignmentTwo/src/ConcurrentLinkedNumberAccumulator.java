@@ -0,0 +1,122 @@
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A running sum of LinkedNumbers that many threads can add to at once. Like LongAdder, the sum
+ * is spread over several stripes, each a LinkedNumberAccumulator guarded by its own lock. A
+ * thread adds to its home stripe, moving on to another stripe if that one is busy, so threads
+ * rarely wait on each other. Reading the sum combines the stripes; a sum read while other
+ * threads are adding may or may not include their additions.
+ */
+public class ConcurrentLinkedNumberAccumulator {
+
+    private final int base;
+    private final LinkedNumberAccumulator[] stripes;
+    private final ReentrantLock[] locks;
+
+    /**
+     * Creates an accumulator holding zero, with two stripes per available processor.
+     *
+     * @param base The base of the numbers to be added, between 2 and 36.
+     * @throws LinkedNumberException If the base is out of range.
+     */
+    public ConcurrentLinkedNumberAccumulator(int base) throws LinkedNumberException {
+        this(base, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an accumulator holding zero.
+     *
+     * @param base       The base of the numbers to be added, between 2 and 36.
+     * @param numStripes The number of independently locked stripes.
+     * @throws LinkedNumberException If the base is out of range or numStripes is not positive.
+     */
+    public ConcurrentLinkedNumberAccumulator(int base, int numStripes) throws LinkedNumberException {
+        if (numStripes <= 0) {
+            throw new LinkedNumberException("number of stripes must be positive");
+        }
+        this.base = base;
+        this.stripes = new LinkedNumberAccumulator[numStripes];
+        this.locks = new ReentrantLock[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            stripes[i] = new LinkedNumberAccumulator(base);
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Returns the base of the numbers this accumulator adds.
+     *
+     * @return The base.
+     */
+    public int getBase() {
+        return base;
+    }
+
+    /**
+     * Adds a number to the running sum.
+     *
+     * @param number The number to add; it must be valid and in this accumulator's base.
+     * @throws LinkedNumberException If the number is invalid or in a different base.
+     */
+    public void add(LinkedNumber number) throws LinkedNumberException {
+        if (number.getBase() != base) {
+            throw new LinkedNumberException("base mismatch");
+        }
+        if (!number.isValidNumber()) {
+            throw new LinkedNumberException("cannot add invalid number");
+        }
+        long id = Thread.currentThread().getId();
+        int home = (int) ((id * 0x9E3779B97F4A7C15L) >>> 33) % stripes.length; // Spread thread ids over the stripes
+        for (int i = 0; i < stripes.length; i++) {
+            int stripe = (home + i) % stripes.length;
+            if (locks[stripe].tryLock()) {
+                try {
+                    stripes[stripe].add(number);
+                } finally {
+                    locks[stripe].unlock();
+                }
+                return;
+            }
+        }
+        // Every stripe is busy, so wait for the home stripe
+        locks[home].lock();
+        try {
+            stripes[home].add(number);
+        } finally {
+            locks[home].unlock();
+        }
+    }
+
+    /**
+     * Returns the current sum of all stripes.
+     *
+     * @return A new LinkedNumber holding the sum, without leading zeros.
+     */
+    public LinkedNumber sum() {
+        LinkedNumberAccumulator total = new LinkedNumberAccumulator(base);
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                total.add(stripes[i]);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total.sum();
+    }
+
+    /**
+     * Resets every stripe to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                stripes[i].reset();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+}
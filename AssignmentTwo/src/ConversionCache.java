@@ -0,0 +1,211 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An opt-in cache of base conversions. Results are keyed by the digits of the source number,
+ * its base and the target base, and the least recently used results are evicted once the total
+ * number of digits held (keys plus results) would exceed a fixed bound.
+ * All methods are thread-safe; conversions themselves run outside the lock.
+ */
+public class ConversionCache {
+
+    private final long maxDigits; // Upper bound on the digits held by all entries
+    private long storedDigits; // Digits currently held by all entries
+    private long hits;
+    private long misses;
+    private final LinkedHashMap<Key, String> entries; // Access-ordered, so the eldest entry is the least recently used
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxDigits The maximum number of digits (source plus result) the cache may hold.
+     */
+    public ConversionCache(long maxDigits) {
+        if (maxDigits <= 0) {
+            throw new LinkedNumberException("cache size must be positive");
+        }
+        this.maxDigits = maxDigits;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Converts a number to a new base, reusing an earlier result for the same digits and bases when one is cached.
+     *
+     * @param number  The number to convert.
+     * @param newBase The base to convert to.
+     * @return A new LinkedNumber holding the converted value.
+     * @throws LinkedNumberException If the number is invalid or the conversion cannot be completed.
+     */
+    public LinkedNumber convert(LinkedNumber number, int newBase) throws LinkedNumberException {
+        Key probe = new Key(number, newBase); // Uses the number's cached hash, so no walk unless a candidate matches
+        String cached;
+        synchronized (this) {
+            cached = entries.get(probe);
+            if (cached != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (cached != null) {
+            return new LinkedNumber(cached, newBase);
+        }
+
+        LinkedNumber result = number.convert(newBase);
+        String digits = number.toString();
+        String converted = result.toString();
+        long size = (long) digits.length() + converted.length();
+        if (size <= maxDigits) {
+            synchronized (this) {
+                String previous = entries.put(new Key(digits, number.getBase(), newBase, probe.hash), converted);
+                if (previous == null) {
+                    storedDigits += size;
+                }
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes least recently used entries until the cache is back within its bound.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Key, String>> it = entries.entrySet().iterator();
+        while (storedDigits > maxDigits && it.hasNext()) {
+            Map.Entry<Key, String> eldest = it.next();
+            storedDigits -= eldest.getKey().digits.length() + eldest.getValue().length();
+            it.remove();
+        }
+    }
+
+    /**
+     * Returns the number of conversions answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of conversions that had to be computed.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of conversions answered from the cache.
+     *
+     * @return The hit rate between 0 and 1, or 0 if nothing has been converted.
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of cached conversions.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of digits currently held by the cache.
+     *
+     * @return The digits held by keys and results.
+     */
+    public synchronized long getStoredDigits() {
+        return storedDigits;
+    }
+
+    /**
+     * Removes every entry and resets the hit and miss counts.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        storedDigits = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Cache key. Stored keys hold the source digits as a String; lookup keys wrap the
+     * LinkedNumber itself so a lookup does not copy its digits.
+     */
+    private static final class Key {
+        private final String digits; // Source digits of a stored key, null for a lookup key
+        private final LinkedNumber number; // Source number of a lookup key, null for a stored key
+        private final int sourceBase;
+        private final int targetBase;
+        private final int hash;
+
+        private Key(LinkedNumber number, int targetBase) {
+            this.digits = null;
+            this.number = number;
+            this.sourceBase = number.getBase();
+            this.targetBase = targetBase;
+            this.hash = mix(number.contentHash(), sourceBase, targetBase);
+        }
+
+        private Key(String digits, int sourceBase, int targetBase, int hash) {
+            this.digits = digits;
+            this.number = null;
+            this.sourceBase = sourceBase;
+            this.targetBase = targetBase;
+            this.hash = hash;
+        }
+
+        private static int mix(int contentHash, int sourceBase, int targetBase) {
+            return (contentHash * 31 + sourceBase) * 31 + targetBase;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hash != other.hash || sourceBase != other.sourceBase || targetBase != other.targetBase) {
+                return false;
+            }
+            if (digits != null && other.digits != null) {
+                return digits.equals(other.digits);
+            }
+            return digits != null ? matches(other.number, digits) : other.digits != null && matches(number, other.digits);
+        }
+
+        /**
+         * Compares the digits of a number with a string without building a string from the number.
+         */
+        private static boolean matches(LinkedNumber number, String digits) {
+            if (number.getNumDigits() != digits.length()) {
+                return false;
+            }
+            DLNode<Digit> current = number.getFront();
+            for (int i = 0; i < digits.length(); i++) {
+                if (current.getElement().getChar() != digits.charAt(i)) {
+                    return false;
+                }
+                current = current.getNext();
+            }
+            return true;
+        }
+    }
+
+}
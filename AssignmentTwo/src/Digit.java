@@ -1,48 +1,100 @@
-
 public class Digit {
-	
+
 	private char digit;
-	
+
+	// Values of the characters '0'-'9' and 'A'-'F' as returned by getValue(), -1 for anything else
+	private static final byte[] VALUES = new byte[256];
+
+	// One 256-entry table per base (2 to 36) giving the value of each character in that base, or -1
+	private static final byte[][] BASE_TABLES = new byte[37][];
+
+	// Shared instances for every character below 256; a Digit never changes, so they can be reused
+	private static final Digit[] CACHE = new Digit[256];
+
+	static {
+		for (int c = 0; c < 256; c++) {
+			VALUES[c] = -1;
+			CACHE[c] = new Digit((char) c);
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			VALUES[c] = (byte) (c - '0');
+		}
+		for (char c = 'A'; c <= 'F'; c++) {
+			VALUES[c] = (byte) (c - 'A' + 10);
+		}
+		for (int base = 0; base < BASE_TABLES.length; base++) {
+			byte[] table = new byte[256];
+			for (int c = 0; c < 256; c++) {
+				table[c] = (byte) Character.digit((char) c, base); // -1 when invalid or the base is out of range
+			}
+			BASE_TABLES[base] = table;
+		}
+	}
+
 	public Digit (char d) {
 		digit = d;
 	}
 
+	/**
+	 * Returns a shared Digit for the given character, creating one only for characters
+	 * outside the cached range.
+	 *
+	 * @param d The digit character.
+	 * @return A Digit holding that character.
+	 */
+	public static Digit valueOf (char d) {
+		if (d < 256) {
+			return CACHE[d];
+		}
+		return new Digit(d);
+	}
+
+	/**
+	 * Returns the lookup table mapping each character below 256 to its value in the
+	 * given base, or -1 if the character is not a digit of that base. Callers must not
+	 * modify the returned array.
+	 *
+	 * @param base The base of the number system.
+	 * @return The 256-entry table for that base.
+	 */
+	static byte[] valueTable (int base) {
+		if (base < 0 || base >= BASE_TABLES.length) {
+			return BASE_TABLES[0]; // Every entry is -1 since 0 is not a valid radix
+		}
+		return BASE_TABLES[base];
+	}
+
 	public int getValue () {
-		switch (digit) {
-			case 'A':
-				return 10;
-			case 'B':
-				return 11;
-			case 'C':
-				return 12;
-			case 'D':
-				return 13;
-			case 'E':
-				return 14;
-			case 'F':
-				return 15;
-			case '0':
-			case '1':
-			case '2':
-			case '3':
-			case '4':
-			case '5':
-			case '6':
-			case '7':
-			case '8':
-			case '9':
-				return Integer.parseInt(String.valueOf(digit));
-			default:
-				return -1;
-			}
+		if (digit < 256) {
+			return VALUES[digit];
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the value of this digit in the given base, using the same rules as
+	 * Character.digit.
+	 *
+	 * @param base The base of the number system.
+	 * @return The value of the digit, or -1 if it is not a digit of that base.
+	 */
+	public int getValue (int base) {
+		if (digit < 256) {
+			return valueTable(base)[digit];
+		}
+		return Character.digit(digit, base);
 	}
-	
+
+	public char getChar () {
+		return digit;
+	}
+
 	public String toString () {
 		return String.valueOf(digit);
 	}
-	
+
 	public boolean equals (Digit other) {
-		return digit == other.digit;
+		return this == other || digit == other.digit;
 	}
-	
+
 }
@@ -0,0 +1,203 @@
+/**
+ * A positional index over the nodes of a LinkedNumber's doubly linked list.
+ * The index is an implicit treap: every entry keeps the size of its subtree, so the
+ * node at any position can be found, inserted or removed in O(log n) expected time
+ * without walking the list. Positions are counted from the front of the list.
+ */
+public class DigitIndex {
+
+    private static class Entry {
+        private DLNode<Digit> node; // The list node stored at this position
+        private int priority; // Random heap priority that keeps the tree balanced
+        private int size; // Number of entries in the subtree rooted here
+        private Entry left;
+        private Entry right;
+
+        private Entry(DLNode<Digit> node, int priority) {
+            this.node = node;
+            this.priority = priority;
+            this.size = 1;
+        }
+    }
+
+    private Entry root; // Root of the treap
+    private int seed; // State of the xorshift generator used for priorities
+    private DLNode<Digit> removed; // Node detached by the last call to remove
+
+    /**
+     * Builds an index over an existing list in linear time.
+     *
+     * @param front The front node of the list to index.
+     * @param count The number of nodes in the list.
+     */
+    public DigitIndex(DLNode<Digit> front, int count) {
+        this.seed = 0x2545F491;
+
+        // Build the treap as a Cartesian tree of the random priorities using a stack
+        Entry[] stack = new Entry[count];
+        int top = -1;
+        DLNode<Digit> current = front;
+        while (current != null) {
+            Entry entry = new Entry(current, nextPriority());
+            Entry last = null;
+            while (top >= 0 && stack[top].priority < entry.priority) {
+                last = stack[top--];
+                update(last); // The popped subtree is complete, so its size is final
+            }
+            entry.left = last;
+            if (top >= 0) {
+                stack[top].right = entry;
+            }
+            stack[++top] = entry;
+            current = current.getNext();
+        }
+        while (top >= 0) {
+            update(stack[top--]); // Finish the sizes along the right spine
+        }
+        this.root = count > 0 ? stack[0] : null;
+    }
+
+    /**
+     * Returns the number of nodes in the index.
+     *
+     * @return The number of indexed nodes.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the node at the given position.
+     *
+     * @param index The zero-based position counted from the front of the list.
+     * @return The node at that position.
+     */
+    public DLNode<Digit> get(int index) {
+        Entry current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.node;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Records that a node was inserted into the list at the given position.
+     *
+     * @param index The zero-based position of the new node counted from the front.
+     * @param node  The node that was inserted.
+     */
+    public void insert(int index, DLNode<Digit> node) {
+        root = insert(root, index, new Entry(node, nextPriority()));
+    }
+
+    /**
+     * Records that the node at the given position was removed from the list.
+     *
+     * @param index The zero-based position of the removed node counted from the front.
+     * @return The node that was at that position.
+     */
+    public DLNode<Digit> remove(int index) {
+        root = remove(root, index);
+        DLNode<Digit> node = removed;
+        removed = null;
+        return node;
+    }
+
+    private Entry insert(Entry tree, int index, Entry entry) {
+        if (tree == null) {
+            return entry;
+        }
+        if (entry.priority > tree.priority) {
+            // The new entry becomes the root of this subtree
+            split(tree, index, entry);
+            update(entry);
+            return entry;
+        }
+        int leftSize = size(tree.left);
+        if (index <= leftSize) {
+            tree.left = insert(tree.left, index, entry);
+        } else {
+            tree.right = insert(tree.right, index - leftSize - 1, entry);
+        }
+        update(tree);
+        return tree;
+    }
+
+    private Entry remove(Entry tree, int index) {
+        int leftSize = size(tree.left);
+        if (index < leftSize) {
+            tree.left = remove(tree.left, index);
+        } else if (index > leftSize) {
+            tree.right = remove(tree.right, index - leftSize - 1);
+        } else {
+            removed = tree.node;
+            return merge(tree.left, tree.right);
+        }
+        update(tree);
+        return tree;
+    }
+
+    /**
+     * Splits a subtree so that its first count entries become the left child of
+     * the given parent and the rest become its right child.
+     */
+    private void split(Entry tree, int count, Entry parent) {
+        if (tree == null) {
+            parent.left = null;
+            parent.right = null;
+            return;
+        }
+        int leftSize = size(tree.left);
+        if (count <= leftSize) {
+            split(tree.left, count, parent);
+            tree.left = parent.right;
+            update(tree);
+            parent.right = tree;
+        } else {
+            split(tree.right, count - leftSize - 1, parent);
+            tree.right = parent.left;
+            update(tree);
+            parent.left = tree;
+        }
+    }
+
+    private Entry merge(Entry first, Entry second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        update(second);
+        return second;
+    }
+
+    private static int size(Entry entry) {
+        return entry == null ? 0 : entry.size;
+    }
+
+    private static void update(Entry entry) {
+        entry.size = 1 + size(entry.left) + size(entry.right);
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+}
@@ -0,0 +1,239 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * A read-only number whose digits live outside the Java heap, one ASCII character per byte,
+ * in a direct ByteBuffer or in a memory-mapped file. Holding a number this way costs no heap
+ * nodes, so even hundreds of millions of digits add nothing to GC marking. Positions are counted
+ * from the rear (least significant digit), as in LinkedNumber.
+ *
+ * close only makes an instance unusable: afterwards every accessor throws LinkedNumberException,
+ * but on Java 17 there is no way to free a direct buffer or unmap a file on demand, so close
+ * releases nothing itself. The memory or mapping is returned only when the garbage collector
+ * collects the buffer, some time after the instance becomes unreachable.
+ */
+public class DirectLinkedNumber implements AutoCloseable {
+
+    private final int base; // The base of the number system for this number
+    private final int numDigits; // Number of digits stored
+    private final int numInvalid; // Number of digits that are not valid for the base
+    private ByteBuffer digits; // Digit characters from the most significant; null once closed
+
+    private DirectLinkedNumber(ByteBuffer digits, int numDigits, int base) {
+        if (numDigits == 0) {
+            throw new LinkedNumberException("no digits given");
+        }
+        this.base = base;
+        this.numDigits = numDigits;
+        this.digits = digits;
+
+        // Validate against the base once, so isValidNumber needs no traversal later
+        byte[] table = Digit.valueTable(base);
+        int invalid = 0;
+        for (int i = 0; i < numDigits; i++) {
+            if (table[digits.get(i) & 0xFF] < 0) {
+                invalid++;
+            }
+        }
+        this.numInvalid = invalid;
+    }
+
+    /**
+     * Copies a string of digits into a new direct buffer.
+     *
+     * @param num     The digits, most significant first; characters must be below 256.
+     * @param baseNum The base of the number.
+     * @return The off-heap number.
+     * @throws LinkedNumberException If no digits are given or a character does not fit in a byte.
+     */
+    public static DirectLinkedNumber fromString(String num, int baseNum) throws LinkedNumberException {
+        if (num == null || num.isEmpty()) {
+            throw new LinkedNumberException("no digits given");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(num.length());
+        for (int i = 0; i < num.length(); i++) {
+            buffer.put(i, toByte(num.charAt(i)));
+        }
+        return new DirectLinkedNumber(buffer, num.length(), baseNum);
+    }
+
+    /**
+     * Copies a LinkedNumber into a new direct buffer.
+     *
+     * @param number The number to copy; its digit characters must be below 256.
+     * @return The off-heap number.
+     * @throws LinkedNumberException If a digit character does not fit in a byte.
+     */
+    public static DirectLinkedNumber of(LinkedNumber number) throws LinkedNumberException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(number.getNumDigits());
+        int i = 0;
+        DLNode<Digit> current = number.getFront();
+        while (current != null) {
+            buffer.put(i++, toByte(current.getElement().getChar()));
+            current = current.getNext();
+        }
+        return new DirectLinkedNumber(buffer, number.getNumDigits(), number.getBase());
+    }
+
+    /**
+     * Maps a file of ASCII digits read-only, using the mapping itself as the digit storage.
+     * Trailing line terminators are not treated as digits.
+     *
+     * @param file    The file holding the digits, most significant first.
+     * @param baseNum The base of the number.
+     * @return The off-heap number.
+     * @throws IOException           If the file cannot be mapped.
+     * @throws LinkedNumberException If the file holds no digits or is larger than 2 GB.
+     */
+    public static DirectLinkedNumber map(Path file, int baseNum) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new LinkedNumberException("file too large to map");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // Stays valid after the channel closes
+        }
+        int length = buffer.limit();
+        while (length > 0 && (buffer.get(length - 1) == '\n' || buffer.get(length - 1) == '\r')) {
+            length--;
+        }
+        return new DirectLinkedNumber(buffer, length, baseNum);
+    }
+
+    private static byte toByte(char c) {
+        if (c >= 256) {
+            throw new LinkedNumberException("digit does not fit in a byte");
+        }
+        return (byte) c;
+    }
+
+    private ByteBuffer buffer() {
+        if (digits == null) {
+            throw new LinkedNumberException("number is closed");
+        }
+        return digits;
+    }
+
+    /**
+     * Returns the base of the number.
+     *
+     * @return The base in which this number is represented.
+     */
+    public int getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the total number of digits.
+     *
+     * @return The number of digits in this number.
+     */
+    public int getNumDigits() {
+        return numDigits;
+    }
+
+    /**
+     * Checks if every digit is valid for the base.
+     *
+     * @return true if the number is valid for its base; false otherwise.
+     */
+    public boolean isValidNumber() {
+        return numInvalid == 0;
+    }
+
+    /**
+     * Returns the digit at the given position, using the shared Digit for its character.
+     *
+     * @param position The zero-based position from the rear (least significant digit).
+     * @return The digit at that position.
+     * @throws LinkedNumberException If the position is invalid or the number is closed.
+     */
+    public Digit getDigit(int position) throws LinkedNumberException {
+        if (position < 0 || position >= numDigits) {
+            throw new LinkedNumberException("Invalid position");
+        }
+        return Digit.valueOf((char) (buffer().get(numDigits - 1 - position) & 0xFF));
+    }
+
+    /**
+     * Returns the values of the digits, from the most significant, as a stream; invalid digits
+     * have the value -1. Splitting for parallel use is by position, so it is always even.
+     *
+     * @return A stream of the digit values.
+     * @throws LinkedNumberException If the number is closed.
+     */
+    public IntStream digits() throws LinkedNumberException {
+        final ByteBuffer buffer = buffer();
+        final byte[] table = Digit.valueTable(base);
+        return IntStream.range(0, numDigits).map(i -> table[buffer.get(i) & 0xFF]);
+    }
+
+    /**
+     * Computes this number modulo m in a single pass over the digits.
+     *
+     * @param m The modulus.
+     * @return The remainder, between 0 and m - 1.
+     * @throws LinkedNumberException If the number is invalid or closed, or m is not positive.
+     */
+    public int mod(int m) throws LinkedNumberException {
+        if (!isValidNumber()) {
+            throw new LinkedNumberException("cannot compute modulus of invalid number");
+        }
+        if (m <= 0) {
+            throw new LinkedNumberException("modulus must be positive");
+        }
+        ByteBuffer buffer = buffer();
+        byte[] table = Digit.valueTable(base);
+        long remainder = 0;
+        for (int i = 0; i < numDigits; i++) {
+            remainder = (remainder * base + table[buffer.get(i) & 0xFF]) % m;
+        }
+        return (int) remainder;
+    }
+
+    /**
+     * Copies this number onto the heap as a LinkedNumber.
+     *
+     * @return A LinkedNumber with the same base and digits.
+     * @throws LinkedNumberException If the number is closed.
+     */
+    public LinkedNumber toLinkedNumber() throws LinkedNumberException {
+        return new LinkedNumber(toString(), base);
+    }
+
+    /**
+     * Converts this number to a new base.
+     *
+     * @param newBase The base to which the number will be converted.
+     * @return A new LinkedNumber in the new base.
+     * @throws LinkedNumberException If the number is invalid or closed, or the conversion cannot be completed.
+     */
+    public LinkedNumber convert(int newBase) throws LinkedNumberException {
+        return toLinkedNumber().convert(newBase);
+    }
+
+    /**
+     * Makes this number unusable and drops its reference to the digit buffer. The buffer's
+     * memory is not freed here; it is returned when the buffer is garbage collected.
+     * Calling close more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        digits = null;
+    }
+
+    @Override
+    public String toString() {
+        ByteBuffer buffer = buffer();
+        StringBuilder numberString = new StringBuilder(numDigits);
+        for (int i = 0; i < numDigits; i++) {
+            numberString.append((char) (buffer.get(i) & 0xFF));
+        }
+        return numberString.toString();
+    }
+
+}
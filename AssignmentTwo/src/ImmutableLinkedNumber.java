@@ -0,0 +1,334 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable number in a given base, backed by a persistent implicit treap of digits.
+ * addDigit and removeDigit return a new version that shares all but O(log n) expected nodes
+ * with the original, so old versions stay valid and instances can be shared between threads
+ * without copying. Positions are counted from the rear (least significant digit), as in LinkedNumber.
+ */
+public final class ImmutableLinkedNumber {
+
+    private static final class Node {
+        private Digit digit;
+        private int priority; // Random heap priority that keeps the tree balanced
+        private int size; // Number of digits in this subtree
+        private int numInvalid; // Number of digits in this subtree that are not valid for the base
+        private int hash; // Polynomial hash of this subtree's digit characters, as in LinkedNumber.contentHash
+        private int power; // 31 raised to size, used to combine hashes
+        private Node left;
+        private Node right;
+
+        // Fields are only written while a node is being built, before it is reachable from any number
+        private Node(Digit digit, int priority, Node left, Node right, int base) {
+            this.digit = digit;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            update(this, base);
+        }
+    }
+
+    private final int base; // The base of the number system for this number
+    private final Node root; // Root of the treap; the in-order sequence runs from the most significant digit
+
+    private ImmutableLinkedNumber(int base, Node root) {
+        this.base = base;
+        this.root = root;
+    }
+
+    /**
+     * Constructs an ImmutableLinkedNumber from a string representation of a number and a specified base.
+     *
+     * @param num     The string representation of the number.
+     * @param baseNum The base of the number.
+     * @throws LinkedNumberException If no digits are given.
+     */
+    public ImmutableLinkedNumber(String num, int baseNum) throws LinkedNumberException {
+        if (num == null || num.isEmpty()) {
+            throw new LinkedNumberException("no digits given");
+        }
+        this.base = baseNum;
+        Builder builder = new Builder(num.length(), baseNum);
+        for (int i = 0; i < num.length(); i++) {
+            builder.append(Digit.valueOf(num.charAt(i)));
+        }
+        this.root = builder.finish();
+    }
+
+    /**
+     * Takes an immutable snapshot of a LinkedNumber.
+     *
+     * @param number The number to copy.
+     * @return An immutable number with the same base and digits.
+     */
+    public static ImmutableLinkedNumber of(LinkedNumber number) {
+        Builder builder = new Builder(number.getNumDigits(), number.getBase());
+        DLNode<Digit> current = number.getFront();
+        while (current != null) {
+            builder.append(current.getElement());
+            current = current.getNext();
+        }
+        return new ImmutableLinkedNumber(number.getBase(), builder.finish());
+    }
+
+    /**
+     * Returns the base of the number.
+     *
+     * @return The base in which this number is represented.
+     */
+    public int getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the total number of digits.
+     *
+     * @return The number of digits in this number.
+     */
+    public int getNumDigits() {
+        return size(root);
+    }
+
+    /**
+     * Checks if every digit is valid for the base.
+     *
+     * @return true if the number is valid for its base; false otherwise.
+     */
+    public boolean isValidNumber() {
+        return numInvalid(root) == 0;
+    }
+
+    /**
+     * Returns the digit at the given position.
+     *
+     * @param position The zero-based position from the rear (least significant digit).
+     * @return The digit at that position.
+     * @throws LinkedNumberException If the position is invalid.
+     */
+    public Digit getDigit(int position) throws LinkedNumberException {
+        int numDigits = getNumDigits();
+        if (position < 0 || position >= numDigits) {
+            throw new LinkedNumberException("Invalid position");
+        }
+        int index = numDigits - 1 - position; // The same position counted from the front
+        Node current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.digit;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a new number with a digit inserted at the given position; this number is unchanged.
+     *
+     * @param digit    The digit to insert.
+     * @param position The zero-based position from the rear, 0 to getNumDigits() inclusive.
+     * @return The new version.
+     * @throws LinkedNumberException If the position is invalid.
+     */
+    public ImmutableLinkedNumber addDigit(Digit digit, int position) throws LinkedNumberException {
+        int numDigits = getNumDigits();
+        if (position < 0 || position > numDigits) {
+            throw new LinkedNumberException("Invalid position");
+        }
+        Node node = new Node(digit, ThreadLocalRandom.current().nextInt(), null, null, base);
+        return new ImmutableLinkedNumber(base, insert(root, numDigits - position, node));
+    }
+
+    /**
+     * Returns a new number with the digit at the given position removed; this number is unchanged.
+     *
+     * @param position The zero-based position from the rear.
+     * @return The new version.
+     * @throws LinkedNumberException If the position is invalid or the number has a single digit.
+     */
+    public ImmutableLinkedNumber removeDigit(int position) throws LinkedNumberException {
+        int numDigits = getNumDigits();
+        if (position < 0 || position >= numDigits) {
+            throw new LinkedNumberException("Invalid position");
+        }
+        if (numDigits == 1) {
+            throw new LinkedNumberException("no digits given"); // An immutable number always keeps a digit
+        }
+        return new ImmutableLinkedNumber(base, remove(root, numDigits - 1 - position));
+    }
+
+    /**
+     * Copies this number into a new mutable LinkedNumber.
+     *
+     * @return A LinkedNumber with the same base and digits.
+     */
+    public LinkedNumber toLinkedNumber() {
+        return new LinkedNumber(toString(), base);
+    }
+
+    /**
+     * Converts this number to a new base.
+     *
+     * @param newBase The base to which the number will be converted.
+     * @return A new immutable number in the new base.
+     * @throws LinkedNumberException If the number is invalid or the conversion cannot be completed.
+     */
+    public ImmutableLinkedNumber convert(int newBase) throws LinkedNumberException {
+        return of(toLinkedNumber().convert(newBase));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder numberString = new StringBuilder(getNumDigits());
+        appendTo(root, numberString);
+        return numberString.toString();
+    }
+
+    private static void appendTo(Node node, StringBuilder out) {
+        while (node != null) {
+            appendTo(node.left, out);
+            out.append(node.digit.getChar());
+            node = node.right; // Loop down the right spine instead of recursing
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ImmutableLinkedNumber)) {
+            return false;
+        }
+        ImmutableLinkedNumber other = (ImmutableLinkedNumber) obj;
+        if (base != other.base || getNumDigits() != other.getNumDigits() || hash(root) != hash(other.root)) {
+            return false;
+        }
+        return root == other.root || toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * hash(root) + base;
+    }
+
+    private Node insert(Node tree, int index, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, index);
+            return new Node(node.digit, node.priority, parts[0], parts[1], base);
+        }
+        int leftSize = size(tree.left);
+        if (index <= leftSize) {
+            return new Node(tree.digit, tree.priority, insert(tree.left, index, node), tree.right, base);
+        }
+        return new Node(tree.digit, tree.priority, tree.left, insert(tree.right, index - leftSize - 1, node), base);
+    }
+
+    private Node remove(Node tree, int index) {
+        int leftSize = size(tree.left);
+        if (index < leftSize) {
+            return new Node(tree.digit, tree.priority, remove(tree.left, index), tree.right, base);
+        }
+        if (index > leftSize) {
+            return new Node(tree.digit, tree.priority, tree.left, remove(tree.right, index - leftSize - 1), base);
+        }
+        return merge(tree.left, tree.right);
+    }
+
+    /**
+     * Splits a subtree into its first count digits and the rest, copying only the nodes on the split path.
+     */
+    private Node[] split(Node tree, int count) {
+        if (tree == null) {
+            return new Node[2];
+        }
+        int leftSize = size(tree.left);
+        if (count <= leftSize) {
+            Node[] parts = split(tree.left, count);
+            parts[1] = new Node(tree.digit, tree.priority, parts[1], tree.right, base);
+            return parts;
+        }
+        Node[] parts = split(tree.right, count - leftSize - 1);
+        parts[0] = new Node(tree.digit, tree.priority, tree.left, parts[0], base);
+        return parts;
+    }
+
+    private Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            return new Node(first.digit, first.priority, first.left, merge(first.right, second), base);
+        }
+        return new Node(second.digit, second.priority, merge(first, second.left), second.right, base);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int numInvalid(Node node) {
+        return node == null ? 0 : node.numInvalid;
+    }
+
+    private static int hash(Node node) {
+        return node == null ? 0 : node.hash;
+    }
+
+    private static int power(Node node) {
+        return node == null ? 1 : node.power;
+    }
+
+    private static void update(Node node, int base) {
+        node.size = 1 + size(node.left) + size(node.right);
+        node.numInvalid = (node.digit.getValue(base) < 0 ? 1 : 0) + numInvalid(node.left) + numInvalid(node.right);
+        node.power = power(node.left) * 31 * power(node.right);
+        node.hash = (hash(node.left) * 31 + node.digit.getChar()) * power(node.right) + hash(node.right);
+    }
+
+    /**
+     * Builds a treap from digits supplied in order in linear time, as a Cartesian tree of random priorities.
+     */
+    private static final class Builder {
+        private final Node[] stack;
+        private final int base;
+        private int top = -1;
+
+        private Builder(int count, int base) {
+            this.stack = new Node[count];
+            this.base = base;
+        }
+
+        private void append(Digit digit) {
+            Node node = new Node(digit, ThreadLocalRandom.current().nextInt(), null, null, base);
+            Node last = null;
+            while (top >= 0 && stack[top].priority < node.priority) {
+                last = stack[top--];
+                update(last, base); // The popped subtree is complete, so its totals are final
+            }
+            node.left = last;
+            update(node, base);
+            if (top >= 0) {
+                stack[top].right = node;
+            }
+            stack[++top] = node;
+        }
+
+        private Node finish() {
+            while (top >= 0) {
+                update(stack[top--], base); // Finish the totals along the right spine
+            }
+            return stack.length > 0 ? stack[0] : null;
+        }
+    }
+
+}
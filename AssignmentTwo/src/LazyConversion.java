@@ -0,0 +1,146 @@
+/**
+ * A lazy view of a LinkedNumber converted to another base. Digits of the result are produced from
+ * the least significant end only when asked for: each new digit is the remainder of one long
+ * division of the remaining quotient by the new base, which costs one pass over the source digits.
+ * Reading the last k digits of an n-digit number therefore costs O(n*k), with no intermediate
+ * number built. Unlike convert(), the view is exact for numbers of any length. Not thread-safe.
+ */
+public class LazyConversion {
+
+    private static final String DIGIT_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private final int sourceBase;
+    private final int newBase;
+    private final byte[] quotient; // Remaining quotient in the source base, most significant first
+    private int start; // Index of the first non-zero quotient digit; quotient.length when it is zero
+    private byte[] produced; // Result digit values found so far, least significant first
+    private int numProduced;
+
+    /**
+     * Creates the view; no result digit is computed yet.
+     *
+     * @param number  The number to convert; later changes to it do not affect the view.
+     * @param newBase The base to convert to, between 2 and 36.
+     * @throws LinkedNumberException If the number is invalid or the base is out of range.
+     */
+    public LazyConversion(LinkedNumber number, int newBase) throws LinkedNumberException {
+        if (!number.isValidNumber()) {
+            throw new LinkedNumberException("cannot convert invalid number");
+        }
+        if (newBase < 2 || newBase > 36) {
+            throw new LinkedNumberException("Base must be between 2 and 36");
+        }
+        this.sourceBase = number.getBase();
+        this.newBase = newBase;
+        this.quotient = new byte[number.getNumDigits()];
+        int i = 0;
+        DLNode<Digit> current = number.getFront();
+        while (current != null) {
+            quotient[i++] = (byte) current.getElement().getValue(sourceBase);
+            current = current.getNext();
+        }
+        skipLeadingZeros();
+        this.produced = new byte[16];
+    }
+
+    /**
+     * Returns the base the number is converted to.
+     *
+     * @return The new base.
+     */
+    public int getBase() {
+        return newBase;
+    }
+
+    /**
+     * Returns the digit of the converted number at the given position, computing digits up to it if needed.
+     *
+     * @param position The zero-based position from the rear (least significant digit).
+     * @return The digit at that position.
+     * @throws LinkedNumberException If the converted number has no digit at that position.
+     */
+    public Digit getDigit(int position) throws LinkedNumberException {
+        if (position < 0 || !produceUpTo(position)) {
+            throw new LinkedNumberException("Invalid position");
+        }
+        return Digit.valueOf(DIGIT_CHARS.charAt(produced[position]));
+    }
+
+    /**
+     * Returns the last k digits of the converted number, or all of them if it has fewer than k.
+     *
+     * @param k The number of digits wanted.
+     * @return The digits, most significant first, as they would end the full result.
+     */
+    public String lastDigits(int k) {
+        if (k > 0) {
+            produceUpTo(k - 1);
+        }
+        int count = Math.min(Math.max(k, 0), numProduced);
+        StringBuilder digits = new StringBuilder(count);
+        for (int i = count - 1; i >= 0; i--) {
+            digits.append(DIGIT_CHARS.charAt(produced[i]));
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Returns the number of digits of the converted number; this computes every digit.
+     *
+     * @return The number of digits.
+     */
+    public int getNumDigits() {
+        produceUpTo(Integer.MAX_VALUE - 1);
+        return numProduced;
+    }
+
+    /**
+     * Computes every digit and returns the whole converted number.
+     *
+     * @return A new LinkedNumber in the new base.
+     */
+    public LinkedNumber toLinkedNumber() {
+        return new LinkedNumber(lastDigits(getNumDigits()), newBase);
+    }
+
+    /**
+     * Produces result digits until the given position exists or the quotient runs out.
+     *
+     * @return true if the position exists.
+     */
+    private boolean produceUpTo(int position) {
+        while (numProduced <= position) {
+            if (start == quotient.length && numProduced > 0) {
+                return false; // The quotient is zero, so every digit has been produced
+            }
+            if (numProduced == produced.length) {
+                byte[] grown = new byte[produced.length * 2];
+                System.arraycopy(produced, 0, grown, 0, numProduced);
+                produced = grown;
+            }
+            produced[numProduced++] = (byte) divide();
+        }
+        return true;
+    }
+
+    /**
+     * Divides the quotient by the new base in place and returns the remainder.
+     */
+    private int divide() {
+        int remainder = 0;
+        for (int i = start; i < quotient.length; i++) {
+            int current = remainder * sourceBase + quotient[i];
+            quotient[i] = (byte) (current / newBase);
+            remainder = current % newBase;
+        }
+        skipLeadingZeros();
+        return remainder;
+    }
+
+    private void skipLeadingZeros() {
+        while (start < quotient.length && quotient[start] == 0) {
+            start++;
+        }
+    }
+
+}
@@ -1,8 +1,39 @@
-public class LinkedNumber {
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class LinkedNumber implements Comparable<LinkedNumber> {
 
 	private int base; // The base of the number system for this number (e.g., 2 for binary, 10 for decimal)
     private DLNode<Digit> front; // Reference to the first node in the doubly linked list
     private DLNode<Digit> rear; // Reference to the last node in the doubly linked list
+    private int numDigits; // Cached number of nodes in the list
+    private int numInvalid; // Number of digits that are not valid for the base
+    private DigitIndex index; // Positional index over the list, built on the first deep positional access
+    private int contentHash; // Hash of the digit characters, valid while hashValid is true
+    private boolean hashValid = true; // Appending at the rear keeps the hash current; other edits invalidate it
+
+    // Positions this close to either end of the list are reached by walking instead of through the index
+    private static final int INDEX_THRESHOLD = 32;
+
+    // Number of characters read or mapped at a time by the streaming factories
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    // Characters used for digit values when decoding the binary format
+    private static final String DIGIT_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // Size of the binary header: one byte for the base and four for the digit count
+    private static final int HEADER_SIZE = 5;
 
   
     /**
@@ -20,26 +51,11 @@ public class LinkedNumber {
 
         this.base = baseNum; // Set the base of the number
 
-        DLNode<Digit> prevNode = null; // To keep track of the previous node for linking
-
-        char[] digits = num.toCharArray(); // Convert the input string to a char array for easy iteration
-        for (char digitChar : digits) {
-            // Initialize a Digit object for each character. Does not validate against base here.
-            Digit digit = new Digit(digitChar);
-            DLNode<Digit> currentNode = new DLNode<>(digit); // Create a new node for the digit
-
-            if (prevNode != null) {
-                // If not the first digit, link it with the previous node
-                prevNode.setNext(currentNode);
-                currentNode.setPrev(prevNode);
-            } else {
-                // If this is the first digit, initialize 'front' with the current node
-                this.front = currentNode;
-            }
-            prevNode = currentNode; // Move to the next node in the list
+        // Parse and validate in one pass: each character is looked up in the base's table as it is linked
+        byte[] table = Digit.valueTable(baseNum);
+        for (int i = 0; i < num.length(); i++) {
+            appendDigit(num.charAt(i), table);
         }
-
-        this.rear = prevNode; // The last node processed becomes the 'rear' of the list
     }
 
  
@@ -60,22 +76,150 @@ public class LinkedNumber {
             throw new LinkedNumberException("no digits given");
         }
 
-        DLNode<Digit> prevNode = null; // Tracks the previous node to link the current node with it
+        byte[] table = Digit.valueTable(this.base);
         for (int i = 0; i < numStr.length(); i++) {
-            char digitChar = numStr.charAt(i); // Extracts each character (digit) from the string
-            Digit digit = new Digit(digitChar); // Wraps the digit character into a Digit object
-            DLNode<Digit> currentNode = new DLNode<>(digit); // Creates a new node for the digit
-
-            if (prevNode != null) { // If not the first digit, link it with the previous node
-                prevNode.setNext(currentNode); // Set the next of previous node to current node
-                currentNode.setPrev(prevNode); // Set the prev of current node to previous node
-            } else { // If this is the first digit
-                this.front = currentNode; // Initialize the front of the list with the current node
-            }
-            prevNode = currentNode; // Move to the next node in the list
+            appendDigit(numStr.charAt(i), table); // Link each character (digit) at the rear
         }
-        this.rear = prevNode; // The last node becomes the rear of the list
     } 
+
+    /**
+     * Creates an empty LinkedNumber in the given base; used by the streaming factories,
+     * which fill the list one chunk at a time.
+     *
+     * @param baseNum The base of the number.
+     * @param unused  Distinguishes this constructor from LinkedNumber(int).
+     */
+    private LinkedNumber(int baseNum, boolean unused) {
+        this.base = baseNum;
+    }
+
+    /**
+     * Builds a LinkedNumber from the characters of a Reader without first collecting them into a String.
+     * Characters are read in fixed-size chunks and validated against the base as they are linked.
+     * Line terminators ('\r' and '\n') are skipped so that digit files may end with a newline.
+     *
+     * @param in      The reader supplying the digits, most significant first. It is not closed.
+     * @param baseNum The base of the number.
+     * @return The number read.
+     * @throws IOException           If reading fails.
+     * @throws LinkedNumberException If the reader supplies no digits.
+     */
+    public static LinkedNumber fromReader(Reader in, int baseNum) throws IOException {
+        LinkedNumber number = new LinkedNumber(baseNum, true);
+        byte[] table = Digit.valueTable(baseNum);
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk, 0, chunk.length)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = chunk[i];
+                if (c != '\n' && c != '\r') {
+                    number.appendDigit(c, table);
+                }
+            }
+        }
+        return number.requireDigits();
+    }
+
+    /**
+     * Builds a LinkedNumber from the bytes of a channel, one byte per digit character (ASCII).
+     * Bytes are read into a reusable buffer in fixed-size chunks and validated against the base
+     * as they are linked. Line terminators are skipped. The channel must be in blocking mode,
+     * since a non-blocking channel would have to be polled until it reaches end of stream.
+     *
+     * @param channel The channel supplying the digits, most significant first. It is not closed.
+     * @param baseNum The base of the number.
+     * @return The number read.
+     * @throws IOException           If reading fails.
+     * @throws LinkedNumberException If the channel is non-blocking or supplies no digits.
+     */
+    public static LinkedNumber fromChannel(ReadableByteChannel channel, int baseNum) throws IOException {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new LinkedNumberException("channel must be blocking");
+        }
+        LinkedNumber number = new LinkedNumber(baseNum, true);
+        byte[] table = Digit.valueTable(baseNum);
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        while (channel.read(chunk) != -1) {
+            chunk.flip();
+            number.appendBytes(chunk, table);
+            chunk.clear();
+        }
+        return number.requireDigits();
+    }
+
+    /**
+     * Builds a LinkedNumber from a file of ASCII digits by memory-mapping it in fixed-size
+     * windows, so the file contents are never copied into a String or char array.
+     * Line terminators are skipped.
+     *
+     * @param file    The file holding the digits, most significant first.
+     * @param baseNum The base of the number.
+     * @return The number read.
+     * @throws IOException           If the file cannot be mapped.
+     * @throws LinkedNumberException If the file holds no digits.
+     */
+    public static LinkedNumber fromFile(Path file, int baseNum) throws IOException {
+        LinkedNumber number = new LinkedNumber(baseNum, true);
+        byte[] table = Digit.valueTable(baseNum);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long offset = 0; offset < size; offset += CHUNK_SIZE * 256L) {
+                long length = Math.min(CHUNK_SIZE * 256L, size - offset);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                number.appendBytes(window, table);
+            }
+        }
+        return number.requireDigits();
+    }
+
+    /**
+     * Appends every remaining byte of the buffer as a digit character, skipping line terminators.
+     */
+    private void appendBytes(ByteBuffer bytes, byte[] table) {
+        while (bytes.hasRemaining()) {
+            char c = (char) (bytes.get() & 0xFF);
+            if (c != '\n' && c != '\r') {
+                appendDigit(c, table);
+            }
+        }
+    }
+
+    /**
+     * Rejects a number that ended up with no digits, matching the String constructor.
+     */
+    private LinkedNumber requireDigits() {
+        if (this.numDigits == 0) {
+            throw new LinkedNumberException("no digits given");
+        }
+        return this;
+    }
+
+    /**
+     * Appends a digit at the rear of the list while validating it against the base.
+     * Shared by the constructors so that parsing and validation happen in a single pass.
+     *
+     * @param digitChar The character of the digit to append.
+     * @param table     The value table for this number's base, from Digit.valueTable.
+     */
+    private void appendDigit(char digitChar, byte[] table) {
+        int value = digitChar < 256 ? table[digitChar] : Character.digit(digitChar, this.base);
+        if (value < 0) {
+            this.numInvalid++; // Remember the invalid digit so isValidNumber needs no second pass
+        }
+
+        DLNode<Digit> currentNode = new DLNode<>(Digit.valueOf(digitChar)); // Reuse the shared Digit for the character
+        if (this.rear != null) { // If not the first digit, link it with the previous node
+            this.rear.setNext(currentNode);
+            currentNode.setPrev(this.rear);
+        } else { // If this is the first digit
+            this.front = currentNode; // Initialize the front of the list with the current node
+        }
+        this.rear = currentNode; // The new node becomes the rear of the list
+        this.numDigits++;
+        if (this.hashValid) {
+            this.contentHash = 31 * this.contentHash + digitChar; // Extend the hash while parsing
+        }
+    }
     
     /**
      * Checks if the number represented by the doubly linked list is valid for its base.
@@ -84,17 +228,15 @@ public class LinkedNumber {
      * @return true if the number is valid for its base; false otherwise.
      */
     public boolean isValidNumber() {
-        DLNode<Digit> currentNode = this.front; // Start with the front node (least significant digit)
-        while (currentNode != null) { // Iterate through each node in the list
-            char digitChar = currentNode.getElement().toString().charAt(0); // Get the character representation of the digit
-            int digitValue = Character.digit(digitChar, this.base); // Convert the character to its numerical value in the specified base
-            // This will return -1 if the digitChar is not valid for the base
-            if (digitValue == -1) {
-                return false; // An invalid digit was found for the specified base, thus the number is invalid
-            }
-            currentNode = currentNode.getNext(); // Move to the next node (digit) in the list
+        if (LinkedNumberMetrics.enabled) {
+            long startNanos = System.nanoTime();
+            long startBytes = LinkedNumberMetrics.allocatedBytes();
+            boolean valid = this.numInvalid == 0;
+            LinkedNumberMetrics.record(LinkedNumberMetrics.Operation.IS_VALID_NUMBER, this.base, this.base, this.numDigits, startNanos, startBytes);
+            return valid;
         }
-        return true; // All digits were valid for the specified base, thus the number is valid
+        // Invalid digits are counted as they enter or leave the list, so no traversal is needed
+        return this.numInvalid == 0;
     }
 
 
@@ -130,18 +272,145 @@ public class LinkedNumber {
 
 
     /**
-     * Calculates the total number of digits in the linked list.
+     * Returns the total number of digits in the linked list. The count is kept up to date
+     * by the constructors, addDigit and removeDigit, so this does not walk the list.
      *
      * @return The total number of digits (nodes) in this number.
      */
     public int getNumDigits() {
-        int count = 0; // Initialize a counter to 0
-        DLNode<Digit> currentNode = this.front; // Start from the front of the list
-        while (currentNode != null) { // Loop until the end of the list is reached
-            count++; // Increment the counter for each node encountered
-            currentNode = currentNode.getNext(); // Move to the next node
+        return this.numDigits; // Return the cached count of nodes
+    }
+
+    /**
+     * Returns a hash of the digit characters of this number (not including the base).
+     * The hash is computed while the number is parsed and cached, so repeated calls do not
+     * walk the list; it is recomputed once after addDigit or removeDigit.
+     *
+     * @return The hash of the digit sequence.
+     */
+    public int contentHash() {
+        if (!this.hashValid) {
+            int hash = 0;
+            DLNode<Digit> current = this.front;
+            while (current != null) {
+                hash = 31 * hash + current.getElement().getChar();
+                current = current.getNext();
+            }
+            this.contentHash = hash;
+            this.hashValid = true;
+        }
+        return this.contentHash;
+    }
+
+    /**
+     * Finds the node at the given position, counted from the rear (least significant digit).
+     * Positions near either end are reached by walking; deeper positions go through the
+     * positional index, which is built the first time it is needed.
+     *
+     * @param position The zero-based position from the rear of the list.
+     * @return The node at that position.
+     */
+    private DLNode<Digit> nodeAt(int position) {
+        int fromFront = numDigits - 1 - position; // The same position counted from the front
+        if (index == null && position <= INDEX_THRESHOLD) {
+            DLNode<Digit> current = rear;
+            for (int i = 0; i < position; i++) {
+                current = current.getPrev(); // Walk towards the front
+            }
+            return current;
+        }
+        if (index == null && fromFront <= INDEX_THRESHOLD) {
+            DLNode<Digit> current = front;
+            for (int i = 0; i < fromFront; i++) {
+                current = current.getNext(); // Walk towards the rear
+            }
+            return current;
+        }
+        if (index == null) {
+            index = new DigitIndex(front, numDigits); // Index the list once, then keep it up to date
+        }
+        return index.get(fromFront);
+    }
+
+    /**
+     * Returns the values of the digits, from the front (most significant) to the rear, as a stream.
+     * Digits that are not valid for the base have the value -1. The stream splits evenly for
+     * parallel use: each split finds its midpoint through the positional index instead of walking.
+     * The number must not be modified while the stream is in use.
+     *
+     * @return A stream of the digit values.
+     */
+    public IntStream digits() {
+        return StreamSupport.intStream(new DigitSpliterator(this, this.front, 0, this.numDigits), false);
+    }
+
+    /**
+     * Spliterator over a range of the list, counted from the front.
+     */
+    private static final class DigitSpliterator implements Spliterator.OfInt {
+
+        // Ranges shorter than this are not split further
+        private static final int MIN_SPLIT = 1 << 12;
+
+        private final LinkedNumber number;
+        private DLNode<Digit> current; // Node at position next
+        private int next; // Position of the next digit, counted from the front
+        private final int end; // Position just past the last digit of this range
+
+        private DigitSpliterator(LinkedNumber number, DLNode<Digit> current, int next, int end) {
+            this.number = number;
+            this.current = current;
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (next >= end) {
+                return false;
+            }
+            action.accept(current.getElement().getValue(number.base));
+            current = current.getNext();
+            next++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int base = number.base;
+            DLNode<Digit> node = current;
+            for (int i = next; i < end; i++) {
+                action.accept(node.getElement().getValue(base));
+                node = node.getNext();
+            }
+            current = node;
+            next = end;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int remaining = end - next;
+            if (remaining < MIN_SPLIT) {
+                return null;
+            }
+            // The first split runs on the calling thread, so the index is built before any other spliterator exists
+            int mid = next + remaining / 2;
+            DLNode<Digit> midNode = number.nodeAt(number.numDigits - 1 - mid);
+            DigitSpliterator prefix = new DigitSpliterator(number, current, next, mid);
+            current = midNode;
+            next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
         }
-        return count; // Return the total count of nodes
     }
 
     @Override
@@ -151,10 +420,10 @@ public class LinkedNumber {
      * @return A string that represents the sequence of digits in this number.
      */
     public String toString() {
-        StringBuilder numberString = new StringBuilder(); // Create a StringBuilder to accumulate the digits
+        StringBuilder numberString = new StringBuilder(this.numDigits); // Create a StringBuilder sized for all the digits
         DLNode<Digit> currentNode = this.front; // Start from the front of the list
         while (currentNode != null) { // Loop until the end of the list is reached
-            numberString.append(currentNode.getElement().toString()); // Append the digit's string representation to the builder
+            numberString.append(currentNode.getElement().getChar()); // Append the digit's character to the builder
             currentNode = currentNode.getNext(); // Move to the next node
         }
         return numberString.toString(); // Convert the builder to a String and return it
@@ -181,8 +450,13 @@ public class LinkedNumber {
         // Cast the object to a LinkedNumber
         LinkedNumber other = (LinkedNumber) obj;
 
-        // Check if the bases of the two numbers are different
-        if (this.base != other.base) {
+        // Check if the bases or the lengths of the two numbers are different
+        if (this.base != other.base || this.numDigits != other.numDigits) {
+            return false;
+        }
+
+        // Cached hashes that differ prove the digits differ without a traversal
+        if (this.hashValid && other.hashValid && this.contentHash != other.contentHash) {
             return false;
         }
 
@@ -206,7 +480,277 @@ public class LinkedNumber {
         return thisCurrent == null && otherCurrent == null;
     }
 
+    /**
+     * Returns a hash code consistent with equals, built from the cached content hash and the base.
+     *
+     * @return The hash code of this number.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * contentHash() + this.base;
+    }
+
+    /**
+     * Compares this number with another, consistently with equals. Numbers are ordered by base,
+     * then by number of digits (the cached length, so no traversal is needed when they differ),
+     * then by digit values from the most significant digit. Within one base and without leading
+     * zeros this is numeric order. Digits with equal values but different characters (such as 'a'
+     * and 'A') are only used to break a tie between otherwise equal values.
+     *
+     * @param other The number to compare with.
+     * @return A negative number, zero or a positive number as this number is less than, equal to or greater than the other.
+     */
+    @Override
+    public int compareTo(LinkedNumber other) {
+        if (this.base != other.base) {
+            return Integer.compare(this.base, other.base);
+        }
+        if (this.numDigits != other.numDigits) {
+            return Integer.compare(this.numDigits, other.numDigits);
+        }
+        DLNode<Digit> thisCurrent = this.front;
+        DLNode<Digit> otherCurrent = other.front;
+        int charOrder = 0; // First difference in characters, used only if all the values are equal
+        while (thisCurrent != null) {
+            Digit thisDigit = thisCurrent.getElement();
+            Digit otherDigit = otherCurrent.getElement();
+            int valueOrder = Integer.compare(thisDigit.getValue(this.base), otherDigit.getValue(this.base));
+            if (valueOrder != 0) {
+                return valueOrder;
+            }
+            if (charOrder == 0) {
+                charOrder = Character.compare(thisDigit.getChar(), otherDigit.getChar());
+            }
+            thisCurrent = thisCurrent.getNext();
+            otherCurrent = otherCurrent.getNext();
+        }
+        return charOrder;
+    }
+
     
+    /**
+     * Returns the number of bits each digit takes in the binary format, which is the
+     * ceiling of log2(base).
+     */
+    private static int bitsPerDigit(int base) {
+        return 32 - Integer.numberOfLeadingZeros(base - 1);
+    }
+
+    /**
+     * Returns the number of bytes writeTo will produce for this number.
+     *
+     * @return The size of the binary form in bytes.
+     */
+    public int serializedSize() {
+        long bits = (long) this.numDigits * bitsPerDigit(this.base);
+        return HEADER_SIZE + (int) ((bits + 7) / 8);
+    }
+
+    /**
+     * Writes this number in the compact binary format: a one-byte base, a four-byte digit
+     * count, then the digit values from the front (most significant) packed at
+     * ceil(log2(base)) bits each, high bits first. Digits are packed into a staging array
+     * and copied into the buffer in bulk.
+     *
+     * @param out The buffer to write to; it must have serializedSize() bytes remaining.
+     * @throws LinkedNumberException If the number is not valid for its base or the base is not between 2 and 36.
+     */
+    public void writeTo(ByteBuffer out) throws LinkedNumberException {
+        if (!isValidNumber() || this.base < 2 || this.base > 36) {
+            throw new LinkedNumberException("cannot serialize invalid number");
+        }
+        out.put((byte) this.base);
+        out.putInt(this.numDigits);
+
+        int bits = bitsPerDigit(this.base);
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, serializedSize())];
+        int filled = 0; // Bytes waiting in the staging chunk
+        long pending = 0; // Bits not yet written, right-aligned
+        int pendingBits = 0;
+        DLNode<Digit> current = this.front;
+        while (current != null) {
+            pending = (pending << bits) | current.getElement().getValue(this.base);
+            pendingBits += bits;
+            if (pendingBits >= 8) {
+                pendingBits -= 8;
+                chunk[filled++] = (byte) (pending >>> pendingBits);
+                if (filled == chunk.length) {
+                    out.put(chunk, 0, filled);
+                    filled = 0;
+                }
+            }
+            current = current.getNext();
+        }
+        if (pendingBits > 0) {
+            chunk[filled++] = (byte) (pending << (8 - pendingBits)); // Pad the last byte with zero bits
+        }
+        out.put(chunk, 0, filled);
+    }
+
+    /**
+     * Returns this number in the compact binary format described by writeTo.
+     *
+     * @return A buffer positioned at the start of the binary form.
+     * @throws LinkedNumberException If the number is not valid for its base.
+     */
+    public ByteBuffer toBytes() throws LinkedNumberException {
+        ByteBuffer out = ByteBuffer.allocate(serializedSize());
+        writeTo(out);
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Reads a number written by writeTo. Digits come back as upper-case characters.
+     *
+     * @param in The buffer to read from, positioned at the start of the binary form.
+     * @return The number read.
+     * @throws LinkedNumberException If the header or a digit is not valid.
+     */
+    public static LinkedNumber readFrom(ByteBuffer in) throws LinkedNumberException {
+        int baseNum = in.get() & 0xFF;
+        int count = in.getInt();
+        if (baseNum < 2 || baseNum > 36 || count <= 0) {
+            throw new LinkedNumberException("invalid serialized number");
+        }
+
+        LinkedNumber number = new LinkedNumber(baseNum, true);
+        byte[] table = Digit.valueTable(baseNum);
+        int bits = bitsPerDigit(baseNum);
+        int mask = (1 << bits) - 1;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int available = 0; // Bytes left in the staging chunk
+        int next = 0;
+        long pending = 0;
+        int pendingBits = 0;
+        for (int i = 0; i < count; i++) {
+            while (pendingBits < bits) {
+                if (next == available) {
+                    available = Math.min(chunk.length, in.remaining());
+                    if (available == 0) {
+                        throw new LinkedNumberException("invalid serialized number");
+                    }
+                    in.get(chunk, 0, available);
+                    next = 0;
+                }
+                pending = (pending << 8) | (chunk[next++] & 0xFF);
+                pendingBits += 8;
+            }
+            pendingBits -= bits;
+            int value = (int) (pending >>> pendingBits) & mask;
+            if (value >= baseNum) {
+                throw new LinkedNumberException("invalid serialized number");
+            }
+            number.appendDigit(DIGIT_CHARS.charAt(value), table);
+        }
+        in.position(in.position() - (available - next)); // Give back bytes read ahead of the last digit
+        return number;
+    }
+
+
+    /**
+     * Computes this number modulo m in a single pass over the digits (Horner's rule in the
+     * number's own base), without converting or allocating.
+     *
+     * @param m The modulus.
+     * @return The remainder, between 0 and m - 1.
+     * @throws LinkedNumberException If the number is invalid or m is not positive.
+     */
+    public int mod(int m) throws LinkedNumberException {
+        checkModulus(m);
+        long remainder = 0; // Always below m, so remainder * base fits in a long
+        DLNode<Digit> current = this.front;
+        while (current != null) {
+            remainder = (remainder * this.base + current.getElement().getValue(this.base)) % m;
+            current = current.getNext();
+        }
+        return (int) remainder;
+    }
+
+    /**
+     * Computes this number modulo m in a single pass over the digits, without converting or allocating.
+     *
+     * @param m The modulus.
+     * @return The remainder, between 0 and m - 1.
+     * @throws LinkedNumberException If the number is invalid or m is not positive.
+     */
+    public long mod(long m) throws LinkedNumberException {
+        checkModulus(m);
+        boolean fits = m <= Long.MAX_VALUE / this.base; // Whether remainder * base can be computed directly
+        long remainder = 0;
+        DLNode<Digit> current = this.front;
+        while (current != null) {
+            int digitValue = current.getElement().getValue(this.base);
+            if (fits) {
+                remainder = (remainder * this.base + digitValue) % m;
+            } else {
+                // Multiply by repeated modular addition so nothing overflows
+                long shifted = 0;
+                for (int i = 0; i < this.base; i++) {
+                    shifted = addMod(shifted, remainder, m);
+                }
+                remainder = addMod(shifted, digitValue % m, m);
+            }
+            current = current.getNext();
+        }
+        return remainder;
+    }
+
+    /**
+     * Checks whether this number is a multiple of m.
+     *
+     * @param m The divisor.
+     * @return true if m divides this number; false otherwise.
+     * @throws LinkedNumberException If the number is invalid or m is not positive.
+     */
+    public boolean isDivisibleBy(int m) throws LinkedNumberException {
+        return mod(m) == 0;
+    }
+
+    /**
+     * Computes this number modulo each of the given moduli in a single traversal of the digits.
+     *
+     * @param moduli The moduli.
+     * @return The remainders, in the same order as the moduli.
+     * @throws LinkedNumberException If the number is invalid or any modulus is not positive.
+     */
+    public int[] mod(int[] moduli) throws LinkedNumberException {
+        for (int m : moduli) {
+            checkModulus(m);
+        }
+        long[] remainders = new long[moduli.length];
+        DLNode<Digit> current = this.front;
+        while (current != null) {
+            int digitValue = current.getElement().getValue(this.base);
+            for (int i = 0; i < moduli.length; i++) {
+                remainders[i] = (remainders[i] * this.base + digitValue) % moduli[i];
+            }
+            current = current.getNext();
+        }
+        int[] result = new int[moduli.length];
+        for (int i = 0; i < moduli.length; i++) {
+            result[i] = (int) remainders[i];
+        }
+        return result;
+    }
+
+    private void checkModulus(long m) throws LinkedNumberException {
+        if (!isValidNumber()) {
+            throw new LinkedNumberException("cannot compute modulus of invalid number");
+        }
+        if (m <= 0) {
+            throw new LinkedNumberException("modulus must be positive");
+        }
+    }
+
+    /**
+     * Adds two remainders modulo m without overflowing.
+     */
+    private static long addMod(long a, long b, long m) {
+        return a >= m - b ? a - (m - b) : a + b;
+    }
+
+
     /**
      * Converts the current LinkedNumber to a new base.
      *
@@ -215,12 +759,51 @@ public class LinkedNumber {
      * @throws LinkedNumberException If the current number is invalid or the conversion cannot be completed.
      */
     public LinkedNumber convert(int newBase) throws LinkedNumberException {
-        if (!isValidNumber()) {
+        return convert(newBase, new StringBuilder());
+    }
+
+    /**
+     * Returns a lazy view of this number converted to a new base. Result digits are computed from
+     * the least significant end only as they are read, so reading the last few digits of a long
+     * number is much cheaper than a full conversion, and the view is exact for any length.
+     *
+     * @param newBase The base to which the number will be converted, between 2 and 36.
+     * @return The lazy view.
+     * @throws LinkedNumberException If the current number is invalid or the base is out of range.
+     */
+    public LazyConversion convertLazily(int newBase) throws LinkedNumberException {
+        return new LazyConversion(this, newBase);
+    }
+
+    /**
+     * Converts the current LinkedNumber to a new base, building the new digits in a caller-supplied
+     * scratch buffer so that repeated conversions on one thread can reuse it.
+     *
+     * @param newBase The base to which the current number will be converted.
+     * @param scratch A buffer the conversion may overwrite.
+     * @return A new LinkedNumber object representing the number in the new base.
+     * @throws LinkedNumberException If the current number is invalid or the conversion cannot be completed.
+     */
+    LinkedNumber convert(int newBase, StringBuilder scratch) throws LinkedNumberException {
+        if (LinkedNumberMetrics.enabled) {
+            long startNanos = System.nanoTime();
+            long startBytes = LinkedNumberMetrics.allocatedBytes();
+            try {
+                return convertUnmetered(newBase, scratch);
+            } finally {
+                LinkedNumberMetrics.record(LinkedNumberMetrics.Operation.CONVERT, this.base, newBase, this.numDigits, startNanos, startBytes);
+            }
+        }
+        return convertUnmetered(newBase, scratch);
+    }
+
+    private LinkedNumber convertUnmetered(int newBase, StringBuilder scratch) throws LinkedNumberException {
+        if (this.numInvalid != 0) {
             throw new LinkedNumberException("cannot convert invalid number");
         }
         
         int decimalValue = toDecimal(); // Convert the current number to decimal
-        LinkedNumber newNumber = fromDecimal(decimalValue, newBase); // Convert from decimal to the new base
+        LinkedNumber newNumber = fromDecimal(decimalValue, newBase, scratch); // Convert from decimal to the new base
         return newNumber;
     }
 
@@ -252,16 +835,17 @@ public class LinkedNumber {
      *
      * @param decimalValue The decimal integer to be converted.
      * @param newBase The base to which the decimal number should be converted. Must be between 2 and 16, inclusive.
+     * @param sb A scratch buffer for the new digits; its contents are overwritten.
      * @return A LinkedNumber object representing the number in the new base.
      * @throws LinkedNumberException If the specified base is outside the allowed range (2 to 16, inclusive).
      */
-    private LinkedNumber fromDecimal(int decimalValue, int newBase) throws LinkedNumberException {
+    private LinkedNumber fromDecimal(int decimalValue, int newBase, StringBuilder sb) throws LinkedNumberException {
         // Validate the new base
         if (newBase < 2 || newBase > 16) {
             throw new LinkedNumberException("Base must be between 2 and 16");
         }
 
-        StringBuilder sb = new StringBuilder(); // To build the number in the new base as a string
+        sb.setLength(0); // To build the number in the new base, starting from an empty buffer
         // Convert the decimal value to the new base
         while (decimalValue > 0) {
             int remainder = decimalValue % newBase; // Get the remainder (next digit in the new base)
@@ -277,8 +861,13 @@ public class LinkedNumber {
 
         sb.reverse(); // The conversion process builds the string in reverse, so reverse it to correct the order
 
-        // Create a new LinkedNumber object with the string representation and the specified base
-        return new LinkedNumber(sb.toString(), newBase);
+        // Link the digits straight from the buffer into a new LinkedNumber in the specified base
+        LinkedNumber newNumber = new LinkedNumber(newBase, true);
+        byte[] table = Digit.valueTable(newBase);
+        for (int i = 0; i < sb.length(); i++) {
+            newNumber.appendDigit(sb.charAt(i), table);
+        }
+        return newNumber;
     }
 
 
@@ -295,7 +884,22 @@ public class LinkedNumber {
      * @throws LinkedNumberException If the position is invalid (less than 0 or greater than the current number of digits).
      */
     public void addDigit(Digit digit, int position) {
-        int numDigits = getNumDigits(); // Determine the current size of the list
+        if (LinkedNumberMetrics.enabled) {
+            long startNanos = System.nanoTime();
+            long startBytes = LinkedNumberMetrics.allocatedBytes();
+            int numDigits = this.numDigits;
+            try {
+                insertDigit(digit, position);
+            } finally {
+                LinkedNumberMetrics.record(LinkedNumberMetrics.Operation.ADD_DIGIT, this.base, this.base, numDigits, startNanos, startBytes);
+            }
+            return;
+        }
+        insertDigit(digit, position);
+    }
+
+    private void insertDigit(Digit digit, int position) {
+        int numDigits = this.numDigits; // Determine the current size of the list
 
         // Validate the position parameter
         if (position < 0 || position > numDigits) {
@@ -328,15 +932,21 @@ public class LinkedNumber {
         }
         // Handle the addition of a digit in the middle of the list
         else {
-            DLNode<Digit> current = rear;
-            for (int i = 0; i < position; i++) {
-                current = current.getPrev(); // Navigate towards the front to the specified insertion point
-            }
+            DLNode<Digit> current = nodeAt(position); // Find the node currently at the insertion point
             newNode.setPrev(current); // Set the current node as the previous node of the new node
             newNode.setNext(current.getNext()); // Set the next node of the current as the next node of the new node
             current.getNext().setPrev(newNode); // Link the next node back to the new node
             current.setNext(newNode); // Link the current node forward to the new node
         }
+
+        if (index != null) {
+            index.insert(numDigits - position, newNode); // The new node sits at this position from the front
+        }
+        if (digit.getValue(this.base) < 0) {
+            this.numInvalid++;
+        }
+        this.numDigits++;
+        this.hashValid = false;
     }
 
 
@@ -351,15 +961,12 @@ public class LinkedNumber {
      */
     public int removeDigit(int position) throws LinkedNumberException {
         // Validate the position parameter
-        if (position < 0 || position >= getNumDigits()) {
+        if (position < 0 || position >= numDigits) {
             throw new LinkedNumberException("Invalid position");
         }
 
-        // Start from the rear of the list and move forward to find the node to remove
-        DLNode<Digit> current = rear;
-        for (int i = 0; i < position; i++) {
-            current = current.getPrev(); // Navigate towards the front to the specified position
-        }
+        // Find the node to remove, counting from the rear of the list
+        DLNode<Digit> current = nodeAt(position);
 
         // Calculate the value of the digit being removed, considering its base and position
         int positionalValue = (int) (current.getElement().getValue() * Math.pow(base, position));
@@ -370,7 +977,7 @@ public class LinkedNumber {
             rear = null;
         }
         // Handle removal of the most significant digit
-        else if (position == getNumDigits() - 1) {
+        else if (position == numDigits - 1) {
             front = current.getNext(); // Move front to the next element
             front.setPrev(null); // Detach the new front from the removed node
         }
@@ -385,6 +992,15 @@ public class LinkedNumber {
             current.getNext().setPrev(current.getPrev()); // Link next node back to the previous, excluding current
         }
 
+        if (index != null) {
+            index.remove(numDigits - 1 - position); // Drop the node from the positional index
+        }
+        if (current.getElement().getValue(this.base) < 0) {
+            this.numInvalid--;
+        }
+        this.numDigits--;
+        this.hashValid = false;
+
         return positionalValue; // Return the calculated positional value of the removed digit
     }
 
@@ -0,0 +1,152 @@
+/**
+ * A mutable running sum of LinkedNumbers in one base. Each added number's digits are added
+ * into a buffer of limbs, one per digit position, without propagating carries; carries are
+ * only resolved when the sum is read. Adding a number therefore touches each of its digits once
+ * and allocates nothing unless the buffer has to grow. Not thread-safe; see
+ * ConcurrentLinkedNumberAccumulator for a version many threads can add to.
+ */
+public class LinkedNumberAccumulator {
+
+    // Number of additions after which carries are resolved so that no limb can overflow
+    private static final long MAX_PENDING = 1L << 56;
+
+    private final int base; // The base of every number added
+    private long[] limbs; // limbs[i] holds the uncarried sum at position i from the least significant digit
+    private int used; // Number of limbs that may be non-zero
+    private long pending; // Additions since carries were last resolved
+
+    /**
+     * Creates an accumulator holding zero.
+     *
+     * @param base The base of the numbers to be added, between 2 and 36.
+     * @throws LinkedNumberException If the base is out of range.
+     */
+    public LinkedNumberAccumulator(int base) throws LinkedNumberException {
+        if (base < 2 || base > 36) {
+            throw new LinkedNumberException("Base must be between 2 and 36");
+        }
+        this.base = base;
+        this.limbs = new long[16];
+    }
+
+    /**
+     * Returns the base of the numbers this accumulator adds.
+     *
+     * @return The base.
+     */
+    public int getBase() {
+        return base;
+    }
+
+    /**
+     * Adds a number to the running sum.
+     *
+     * @param number The number to add; it must be valid and in this accumulator's base.
+     * @throws LinkedNumberException If the number is invalid or in a different base.
+     */
+    public void add(LinkedNumber number) throws LinkedNumberException {
+        if (number.getBase() != base) {
+            throw new LinkedNumberException("base mismatch");
+        }
+        if (!number.isValidNumber()) {
+            throw new LinkedNumberException("cannot add invalid number");
+        }
+        beforeAdd(number.getNumDigits());
+        int position = 0;
+        DLNode<Digit> current = number.getRear(); // Start from the least significant digit
+        while (current != null) {
+            limbs[position++] += current.getElement().getValue(base);
+            current = current.getPrev();
+        }
+    }
+
+    /**
+     * Adds the running sum of another accumulator in the same base to this one.
+     *
+     * @param other The accumulator to add; it is not changed.
+     * @throws LinkedNumberException If the other accumulator uses a different base.
+     */
+    public void add(LinkedNumberAccumulator other) throws LinkedNumberException {
+        if (other.base != base) {
+            throw new LinkedNumberException("base mismatch");
+        }
+        other.resolveCarries(); // Keeps each of the other limbs below the base
+        beforeAdd(other.used);
+        for (int i = 0; i < other.used; i++) {
+            limbs[i] += other.limbs[i];
+        }
+    }
+
+    /**
+     * Returns the current sum, resolving any deferred carries.
+     *
+     * @return A new LinkedNumber holding the sum, without leading zeros.
+     */
+    public LinkedNumber sum() {
+        resolveCarries();
+        int top = used - 1;
+        while (top > 0 && limbs[top] == 0) {
+            top--; // Skip leading zeros
+        }
+        if (top < 0) {
+            return new LinkedNumber("0", base);
+        }
+        StringBuilder digits = new StringBuilder(top + 1);
+        for (int i = top; i >= 0; i--) {
+            digits.append(Character.toUpperCase(Character.forDigit((int) limbs[i], base)));
+        }
+        return new LinkedNumber(digits.toString(), base);
+    }
+
+    /**
+     * Resets the sum to zero, keeping the allocated buffer.
+     */
+    public void reset() {
+        for (int i = 0; i < used; i++) {
+            limbs[i] = 0;
+        }
+        used = 0;
+        pending = 0;
+    }
+
+    /**
+     * Makes room for an addition spanning the given number of limbs.
+     */
+    private void beforeAdd(int numLimbs) {
+        if (++pending >= MAX_PENDING) {
+            resolveCarries();
+            pending = 1;
+        }
+        if (numLimbs > limbs.length) {
+            long[] grown = new long[Math.max(numLimbs, limbs.length * 2)];
+            System.arraycopy(limbs, 0, grown, 0, used);
+            limbs = grown;
+        }
+        if (numLimbs > used) {
+            used = numLimbs;
+        }
+    }
+
+    /**
+     * Propagates carries so that every limb is below the base.
+     */
+    private void resolveCarries() {
+        long carry = 0;
+        for (int i = 0; i < used; i++) {
+            long value = limbs[i] + carry;
+            limbs[i] = value % base;
+            carry = value / base;
+        }
+        while (carry > 0) {
+            if (used == limbs.length) {
+                long[] grown = new long[limbs.length * 2];
+                System.arraycopy(limbs, 0, grown, 0, used);
+                limbs = grown;
+            }
+            limbs[used++] = carry % base;
+            carry /= base;
+        }
+        pending = 0;
+    }
+
+}
@@ -0,0 +1,150 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converts batches of LinkedNumbers to a new base in parallel. A batch is cut into chunks that run
+ * as separate tasks on the given executor; each worker thread reuses one scratch buffer for all its
+ * conversions. Results come back in input order, and a number that cannot be converted gets an
+ * error result instead of stopping the batch.
+ */
+public class LinkedNumberBatchConverter {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    // One conversion buffer per worker thread, reused across chunks and batches
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * Result of converting one number: either the converted number or the error that prevented it.
+     */
+    public static final class Result {
+        private final LinkedNumber number;
+        private final LinkedNumberException error;
+
+        private Result(LinkedNumber number, LinkedNumberException error) {
+            this.number = number;
+            this.error = error;
+        }
+
+        /**
+         * Returns whether the conversion succeeded.
+         *
+         * @return true if getNumber holds the converted number.
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * Returns the converted number.
+         *
+         * @return The converted number, or null if the conversion failed.
+         */
+        public LinkedNumber getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the error that prevented the conversion.
+         *
+         * @return The error, or null if the conversion succeeded.
+         */
+        public LinkedNumberException getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Creates a converter that runs chunks of 1024 numbers on the given executor.
+     *
+     * @param executor The executor to run conversions on; it is not shut down by the converter.
+     */
+    public LinkedNumberBatchConverter(ExecutorService executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter.
+     *
+     * @param executor  The executor to run conversions on; it is not shut down by the converter.
+     * @param chunkSize The number of conversions per task.
+     * @throws LinkedNumberException If chunkSize is not positive.
+     */
+    public LinkedNumberBatchConverter(ExecutorService executor, int chunkSize) throws LinkedNumberException {
+        if (chunkSize <= 0) {
+            throw new LinkedNumberException("chunk size must be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts every number in a stream to a new base.
+     *
+     * @param numbers The numbers to convert.
+     * @param newBase The base to convert to.
+     * @return One result per number, in encounter order.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public List<Result> convertAll(Stream<LinkedNumber> numbers, int newBase) throws InterruptedException {
+        return convertAll(numbers.collect(Collectors.toList()), newBase);
+    }
+
+    /**
+     * Converts every number in a list to a new base.
+     *
+     * @param numbers The numbers to convert; they must not be modified until the call returns.
+     * @param newBase The base to convert to.
+     * @return One result per number, in the same order as the input.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public List<Result> convertAll(final List<LinkedNumber> numbers, final int newBase) throws InterruptedException {
+        final Result[] results = new Result[numbers.size()];
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int start = 0; start < results.length; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(results.length, start + chunkSize);
+            tasks.add(executor.submit(() -> convertRange(numbers, newBase, results, from, to)));
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            // Conversion errors are captured per item, so anything else is unexpected
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        } finally {
+            for (Future<?> task : tasks) {
+                task.cancel(true); // Stops any remaining work if waiting was cut short
+            }
+        }
+        List<Result> ordered = new ArrayList<>(results.length);
+        Collections.addAll(ordered, results);
+        return ordered;
+    }
+
+    private static void convertRange(List<LinkedNumber> numbers, int newBase, Result[] results, int from, int to) {
+        StringBuilder scratch = SCRATCH.get();
+        for (int i = from; i < to; i++) {
+            try {
+                results[i] = new Result(numbers.get(i).convert(newBase, scratch), null);
+            } catch (LinkedNumberException e) {
+                results[i] = new Result(null, e);
+            }
+        }
+    }
+
+}
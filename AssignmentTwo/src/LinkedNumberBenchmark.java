@@ -0,0 +1,120 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Benchmarks the LinkedNumber operations over numbers from 10 to 10^7 digits.
+ * For each digit count it reports the average time per operation and the bytes allocated per
+ * operation by the benchmarking thread. Every measurement is preceded by a warm-up run of the same
+ * operation so the JIT has compiled it.
+ *
+ * Usage: java -Xmx4g LinkedNumberBenchmark [maxDigits]
+ */
+public class LinkedNumberBenchmark {
+
+	// Minimum time spent on each warm-up and each measurement
+	private static final long WARMUP_NANOS = 200_000_000L;
+	private static final long MEASURE_NANOS = 500_000_000L;
+
+	// Base pairs measured for convert()
+	private static final int[][] BASE_PAIRS = { {2, 10}, {10, 16}, {16, 2}, {8, 12} };
+
+	private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+	// Results are folded into this field so the JIT cannot drop the work being measured
+	private static long sink;
+
+	/** One benchmarked operation; returns a value derived from the work done. */
+	private interface Operation {
+		long run();
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean () {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported()) {
+				sunBean.setThreadAllocatedMemoryEnabled(true);
+				return sunBean;
+			}
+		}
+		return null;
+	}
+
+	private static long allocatedBytes () {
+		return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Runs an operation repeatedly for at least the given time.
+	 *
+	 * @return { operations run, nanoseconds taken, bytes allocated }
+	 */
+	private static long[] runFor (Operation op, long nanos) {
+		long ops = 0;
+		long bytesBefore = allocatedBytes();
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			sink += op.run();
+			ops++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < nanos);
+		return new long[] { ops, elapsed, allocatedBytes() - bytesBefore };
+	}
+
+	private static void measure (String name, int digits, Operation op) {
+		runFor(op, WARMUP_NANOS);
+		long[] result = runFor(op, MEASURE_NANOS);
+		double nsPerOp = (double) result[1] / result[0];
+		String alloc = THREADS == null ? "n/a" : String.format("%.1f", (double) result[2] / result[0]);
+		System.out.println(String.format("%-28s %10d %16.1f %16s", name, digits, nsPerOp, alloc));
+	}
+
+	private static String randomDigits (Random random, int count, int base) {
+		StringBuilder digits = new StringBuilder(count);
+		digits.append(Character.toUpperCase(Character.forDigit(1 + random.nextInt(base - 1), base))); // No leading zero
+		for (int i = 1; i < count; i++) {
+			digits.append(Character.toUpperCase(Character.forDigit(random.nextInt(base), base)));
+		}
+		return digits.toString();
+	}
+
+	private static void runAll (final int digits) {
+		Random random = new Random(digits);
+		final String hex = randomDigits(random, digits, 16);
+		final LinkedNumber number = new LinkedNumber(hex, 16);
+		final LinkedNumber same = new LinkedNumber(hex, 16);
+
+		measure("construct", digits, () -> new LinkedNumber(hex, 16).getNumDigits());
+		measure("isValidNumber", digits, () -> number.isValidNumber() ? 1 : 0);
+		measure("toString", digits, () -> number.toString().length());
+		measure("equals", digits, () -> number.equals(same) ? 1 : 0);
+
+		for (final int[] pair : BASE_PAIRS) {
+			final LinkedNumber source = new LinkedNumber(randomDigits(random, digits, pair[0]), pair[0]);
+			measure("convert " + pair[0] + "->" + pair[1], digits, () -> source.convert(pair[1]).getNumDigits());
+		}
+
+		// Each addDigit is undone by a removeDigit at the same position, so the number keeps its size
+		int[] positions = { 0, digits / 2, digits };
+		String[] labels = { "rear", "middle", "front" };
+		for (int i = 0; i < positions.length; i++) {
+			final int position = positions[i];
+			final Digit digit = Digit.valueOf('7');
+			measure("addDigit+removeDigit " + labels[i], digits, () -> {
+				number.addDigit(digit, position);
+				return number.removeDigit(position);
+			});
+		}
+	}
+
+	public static void main (String[] args) {
+		int maxDigits = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		System.out.println(String.format("%-28s %10s %16s %16s", "operation", "digits", "ns/op", "bytes/op"));
+		for (int digits = 10; digits <= maxDigits; digits *= 10) {
+			runAll(digits);
+		}
+		System.out.println("(checksum " + sink + ")");
+	}
+
+}
@@ -0,0 +1,247 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Optional metrics for LinkedNumber operations. While disabled (the default) an instrumented
+ * operation only reads one flag. While enabled, each convert(), isValidNumber() and addDigit()
+ * call is counted by its base pair (source and target base; the number's own base twice for
+ * operations that do not convert), its latency is added to a histogram for the number's
+ * digit-count bucket, and the bytes it allocated on the calling thread are added up.
+ * Conversions slower than a threshold are also emitted as JFR events, visible in any
+ * active Flight Recorder recording.
+ *
+ * The thread bean used to measure allocation is only looked up when metrics are first
+ * enabled, so a program that never enables them does not load the management classes.
+ */
+public class LinkedNumberMetrics {
+
+    /** The instrumented operations. */
+    public enum Operation {
+        CONVERT, IS_VALID_NUMBER, ADD_DIGIT
+    }
+
+    private static final int NUM_BASES = 37; // Bases 0 to 36; anything else is counted as base 0
+    private static final int NUM_DIGIT_BUCKETS = 10; // Bucket k holds numbers of 10^k to 10^(k+1) - 1 digits
+    private static final int NUM_LATENCY_BUCKETS = 64; // Bucket k holds latencies of 2^k to 2^(k+1) - 1 ns
+
+    private static final int NUM_OPERATIONS = Operation.values().length;
+    private static final AtomicLongArray COUNTS = new AtomicLongArray(NUM_OPERATIONS * NUM_BASES * NUM_BASES);
+    private static final AtomicLongArray LATENCIES = new AtomicLongArray(NUM_OPERATIONS * NUM_DIGIT_BUCKETS * NUM_LATENCY_BUCKETS);
+    private static final AtomicLongArray ALLOCATED = new AtomicLongArray(NUM_OPERATIONS);
+
+    private static volatile boolean threadBeanLoaded; // Set once ThreadBean has been initialized
+
+    // Read by every instrumented operation; volatile so enabling takes effect on all threads
+    static volatile boolean enabled;
+
+    private static volatile long slowConversionNanos = 1_000_000L;
+
+    /**
+     * JFR event for a conversion that took at least the slow-conversion threshold.
+     */
+    @Name("LinkedNumber.SlowConversion")
+    @Label("Slow LinkedNumber Conversion")
+    @Category("LinkedNumber")
+    @Description("A LinkedNumber.convert call that exceeded the slow-conversion threshold")
+    static class SlowConversionEvent extends Event {
+        @Label("Source Base")
+        int sourceBase;
+
+        @Label("Target Base")
+        int targetBase;
+
+        @Label("Digits")
+        int numDigits;
+
+        @Label("Conversion Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long conversionTime;
+    }
+
+    /**
+     * Holds the thread bean, which is looked up when this class is first used.
+     */
+    private static class ThreadBean {
+        private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    }
+
+    private LinkedNumberMetrics() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        threadBeanLoaded = true;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the thread bean has been looked up, which happens the first time
+     * metrics are enabled.
+     *
+     * @return true once the management classes have been loaded for metrics.
+     */
+    static boolean isThreadBeanLoaded() {
+        return threadBeanLoaded;
+    }
+
+    /**
+     * Starts collecting metrics.
+     */
+    public static void enable() {
+        if (ThreadBean.THREADS != null) {
+            ThreadBean.THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        enabled = true;
+    }
+
+    /**
+     * Stops collecting metrics; what was collected so far is kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Returns whether metrics are being collected.
+     *
+     * @return true if enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears every count, histogram and allocation total.
+     */
+    public static void reset() {
+        for (int i = 0; i < COUNTS.length(); i++) {
+            COUNTS.set(i, 0);
+        }
+        for (int i = 0; i < LATENCIES.length(); i++) {
+            LATENCIES.set(i, 0);
+        }
+        for (int i = 0; i < ALLOCATED.length(); i++) {
+            ALLOCATED.set(i, 0);
+        }
+    }
+
+    /**
+     * Sets how long a conversion must take to be emitted as a JFR event.
+     *
+     * @param nanos The threshold in nanoseconds.
+     */
+    public static void setSlowConversionThreshold(long nanos) {
+        slowConversionNanos = nanos;
+    }
+
+    /**
+     * Returns the number of times an operation ran for a base pair.
+     *
+     * @param op         The operation.
+     * @param sourceBase The base of the number.
+     * @param targetBase The base converted to, or the number's own base for other operations.
+     * @return The count.
+     */
+    public static long getCount(Operation op, int sourceBase, int targetBase) {
+        return COUNTS.get(countIndex(op, sourceBase, targetBase));
+    }
+
+    /**
+     * Returns the latency histogram of an operation for one digit-count bucket. Entry k counts
+     * calls that took from 2^k to 2^(k+1) - 1 nanoseconds.
+     *
+     * @param op          The operation.
+     * @param digitBucket The bucket: k covers numbers of 10^k to 10^(k+1) - 1 digits.
+     * @return A copy of the histogram.
+     */
+    public static long[] getLatencyHistogram(Operation op, int digitBucket) {
+        long[] histogram = new long[NUM_LATENCY_BUCKETS];
+        int offset = (op.ordinal() * NUM_DIGIT_BUCKETS + digitBucket) * NUM_LATENCY_BUCKETS;
+        for (int i = 0; i < NUM_LATENCY_BUCKETS; i++) {
+            histogram[i] = LATENCIES.get(offset + i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the total bytes allocated by an operation on the calling threads, or 0 if the
+     * JVM cannot measure thread allocation.
+     *
+     * @param op The operation.
+     * @return The bytes allocated.
+     */
+    public static long getAllocatedBytes(Operation op) {
+        return ALLOCATED.get(op.ordinal());
+    }
+
+    /**
+     * Returns the digit-count bucket of a number with the given number of digits.
+     *
+     * @param numDigits The number of digits.
+     * @return The bucket index.
+     */
+    public static int digitBucket(int numDigits) {
+        int bucket = 0;
+        for (long limit = 10; limit <= numDigits && bucket < NUM_DIGIT_BUCKETS - 1; limit *= 10) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the bytes allocated so far by the calling thread; called when an operation starts.
+     */
+    static long allocatedBytes() {
+        return ThreadBean.THREADS == null ? 0 : ThreadBean.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records one completed operation.
+     *
+     * @param op         The operation.
+     * @param sourceBase The base of the number.
+     * @param targetBase The base converted to, or the number's own base.
+     * @param numDigits  The number of digits of the number operated on.
+     * @param startNanos System.nanoTime() when the operation started.
+     * @param startBytes allocatedBytes() when the operation started.
+     */
+    static void record(Operation op, int sourceBase, int targetBase, int numDigits, long startNanos, long startBytes) {
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = allocatedBytes() - startBytes;
+        COUNTS.incrementAndGet(countIndex(op, sourceBase, targetBase));
+        int latencyBucket = 63 - Long.numberOfLeadingZeros(Math.max(1, elapsed));
+        LATENCIES.incrementAndGet((op.ordinal() * NUM_DIGIT_BUCKETS + digitBucket(numDigits)) * NUM_LATENCY_BUCKETS + latencyBucket);
+        ALLOCATED.addAndGet(op.ordinal(), allocated);
+
+        if (op == Operation.CONVERT && elapsed >= slowConversionNanos) {
+            SlowConversionEvent event = new SlowConversionEvent();
+            if (event.isEnabled()) {
+                event.sourceBase = sourceBase;
+                event.targetBase = targetBase;
+                event.numDigits = numDigits;
+                event.conversionTime = elapsed;
+                event.commit();
+            }
+        }
+    }
+
+    private static int countIndex(Operation op, int sourceBase, int targetBase) {
+        return (op.ordinal() * NUM_BASES + baseIndex(sourceBase)) * NUM_BASES + baseIndex(targetBase);
+    }
+
+    private static int baseIndex(int base) {
+        return base >= 0 && base < NUM_BASES ? base : 0;
+    }
+
+}
@@ -0,0 +1,137 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sorts LinkedNumbers in one base by radix sort on their digit sequences, producing the same
+ * order as LinkedNumber.compareTo. Numbers are grouped by length, and each group is sorted with
+ * one stable counting-sort pass per digit position, from the least significant digit up. Each
+ * pass costs O(n + base), so sorting takes time linear in the total number of digits.
+ */
+public class LinkedNumberRadixSort {
+
+    private LinkedNumberRadixSort() {
+    }
+
+    /**
+     * Sorts a list of numbers in place.
+     *
+     * @param numbers The numbers to sort; they must all have the same base.
+     * @throws LinkedNumberException If the numbers do not all have the same base.
+     */
+    public static void sort(List<LinkedNumber> numbers) throws LinkedNumberException {
+        LinkedNumber[] sorted = numbers.toArray(new LinkedNumber[0]);
+        sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            numbers.set(i, sorted[i]);
+        }
+    }
+
+    /**
+     * Sorts an array of numbers in place.
+     *
+     * @param numbers The numbers to sort; they must all have the same base.
+     * @throws LinkedNumberException If the numbers do not all have the same base.
+     */
+    public static void sort(LinkedNumber[] numbers) throws LinkedNumberException {
+        if (numbers.length < 2) {
+            return;
+        }
+        int base = numbers[0].getBase();
+
+        // Group the numbers by length; shorter numbers come first
+        TreeMap<Integer, List<LinkedNumber>> groups = new TreeMap<>();
+        for (LinkedNumber number : numbers) {
+            if (number.getBase() != base) {
+                throw new LinkedNumberException("base mismatch");
+            }
+            List<LinkedNumber> group = groups.get(number.getNumDigits());
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(number.getNumDigits(), group);
+            }
+            group.add(number);
+        }
+
+        int next = 0;
+        for (Map.Entry<Integer, List<LinkedNumber>> entry : groups.entrySet()) {
+            LinkedNumber[] group = entry.getValue().toArray(new LinkedNumber[0]);
+            sortGroup(group, entry.getKey(), base);
+            System.arraycopy(group, 0, numbers, next, group.length);
+            next += group.length;
+        }
+    }
+
+    /**
+     * Sorts numbers that all have the given length by LSD radix sort on their digit values.
+     */
+    private static void sortGroup(LinkedNumber[] group, int length, int base) {
+        int n = group.length;
+        if (n < 2) {
+            return;
+        }
+
+        // Copy the digit values into one flat array; invalid digits (-1) become bucket 0
+        byte[] keys = new byte[n * length];
+        for (int i = 0; i < n; i++) {
+            DLNode<Digit> current = group[i].getFront();
+            for (int p = 0; p < length; p++) {
+                keys[i * length + p] = (byte) (current.getElement().getValue(base) + 1);
+                current = current.getNext();
+            }
+        }
+
+        int[] order = new int[n];
+        int[] scratch = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        int[] counts = new int[base + 2];
+        for (int p = length - 1; p >= 0; p--) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[keys[order[i] * length + p] + 1]++;
+            }
+            for (int b = 1; b < counts.length; b++) {
+                counts[b] += counts[b - 1]; // counts[k] becomes the first slot for bucket k
+            }
+            for (int i = 0; i < n; i++) {
+                int item = order[i];
+                scratch[counts[keys[item * length + p]]++] = item;
+            }
+            int[] swap = order;
+            order = scratch;
+            scratch = swap;
+        }
+
+        LinkedNumber[] sorted = new LinkedNumber[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = group[order[i]];
+        }
+
+        // Numbers with equal values but different characters (such as 'a' and 'A') are adjacent now;
+        // order each such run with compareTo, which breaks the tie on the characters
+        int runStart = 0;
+        for (int i = 1; i <= n; i++) {
+            if (i == n || !sameValues(keys, order[runStart], order[i], length)) {
+                if (i - runStart > 1) {
+                    Arrays.sort(sorted, runStart, i);
+                }
+                runStart = i;
+            }
+        }
+        System.arraycopy(sorted, 0, group, 0, n);
+    }
+
+    private static boolean sameValues(byte[] keys, int first, int second, int length) {
+        for (int p = 0; p < length; p++) {
+            if (keys[first * length + p] != keys[second * length + p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,122 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An in-memory, read-only index of LinkedNumbers in one base, kept in LinkedNumber.compareTo order
+ * so that range queries are answered by binary search. The index is built with
+ * LinkedNumberRadixSort. Indexed numbers must not be modified while the index is in use.
+ */
+public class OrderedLinkedNumberIndex {
+
+    private final LinkedNumber[] sorted;
+    private final List<LinkedNumber> view; // Read-only view of the sorted array
+
+    /**
+     * Builds an index over the given numbers.
+     *
+     * @param numbers The numbers to index; they must all have the same base.
+     * @throws LinkedNumberException If the numbers do not all have the same base.
+     */
+    public OrderedLinkedNumberIndex(Collection<LinkedNumber> numbers) throws LinkedNumberException {
+        this.sorted = numbers.toArray(new LinkedNumber[0]);
+        LinkedNumberRadixSort.sort(this.sorted);
+        this.view = Collections.unmodifiableList(Arrays.asList(this.sorted));
+    }
+
+    /**
+     * Returns the number of indexed numbers.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * Returns the number at the given rank.
+     *
+     * @param rank The zero-based position in sorted order.
+     * @return The number at that position.
+     */
+    public LinkedNumber get(int rank) {
+        return sorted[rank];
+    }
+
+    /**
+     * Returns every indexed number in sorted order.
+     *
+     * @return A read-only list of the numbers.
+     */
+    public List<LinkedNumber> asList() {
+        return view;
+    }
+
+    /**
+     * Checks whether a number equal to the given one is indexed.
+     *
+     * @param number The number to look for.
+     * @return true if the index holds an equal number; false otherwise.
+     */
+    public boolean contains(LinkedNumber number) {
+        int rank = lowerBound(number);
+        return rank < sorted.length && sorted[rank].equals(number);
+    }
+
+    /**
+     * Returns the indexed numbers from low (inclusive) to high (exclusive), in sorted order.
+     *
+     * @param low  The lower bound, inclusive.
+     * @param high The upper bound, exclusive.
+     * @return A read-only list of the numbers in the range.
+     */
+    public List<LinkedNumber> range(LinkedNumber low, LinkedNumber high) {
+        int from = lowerBound(low);
+        int to = Math.max(from, lowerBound(high));
+        return view.subList(from, to);
+    }
+
+    /**
+     * Returns the smallest indexed number greater than or equal to the given one.
+     *
+     * @param number The bound.
+     * @return The ceiling of the number, or null if there is none.
+     */
+    public LinkedNumber ceiling(LinkedNumber number) {
+        int rank = lowerBound(number);
+        return rank < sorted.length ? sorted[rank] : null;
+    }
+
+    /**
+     * Returns the largest indexed number less than or equal to the given one.
+     *
+     * @param number The bound.
+     * @return The floor of the number, or null if there is none.
+     */
+    public LinkedNumber floor(LinkedNumber number) {
+        int rank = lowerBound(number);
+        if (rank < sorted.length && sorted[rank].compareTo(number) == 0) {
+            return sorted[rank];
+        }
+        return rank > 0 ? sorted[rank - 1] : null;
+    }
+
+    /**
+     * Returns the rank of the first indexed number that is not less than the given one.
+     */
+    private int lowerBound(LinkedNumber number) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(number) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -1,3 +1,18 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 public class TestLinkedNumber {
 
@@ -120,6 +135,302 @@ public class TestLinkedNumber {
 		String b = traverseBackward(ln.getRear());
 		return f.equals("21526") && b.equals("62512") && b1 && b2 && b3 && b4 && b5 && b6;
 	}
+
+	private static boolean test11 () {
+		// long enough that deep positions go through the positional index
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 500; i++) expected.append((char) ('0' + i % 8));
+		LinkedNumber ln = new LinkedNumber(expected.toString(), 8);
+		for (int i = 0; i < 200; i++) {
+			int pos = (i * 37) % (expected.length() + 1);
+			ln.addDigit(new Digit('7'), pos);
+			expected.insert(expected.length() - pos, '7');
+			int rem = (i * 53) % expected.length();
+			ln.removeDigit(rem);
+			expected.deleteCharAt(expected.length() - 1 - rem);
+		}
+		String f = traverseForward(ln.getFront());
+		String b = traverseBackward(ln.getRear());
+		return f.equals(expected.toString()) && b.equals(expected.reverse().toString())
+				&& ln.getNumDigits() == 500;
+	}
+
+	private static boolean test12 () {
+		LinkedNumber ln = new LinkedNumber("1010", 2);
+		boolean b1 = ln.isValidNumber();
+		ln.addDigit(new Digit('2'), 2);
+		boolean b2 = !ln.isValidNumber();
+		ln.removeDigit(2);
+		boolean b3 = ln.isValidNumber() && ln.toString().equals("1010");
+		LinkedNumber ln2 = new LinkedNumber("7f", 16);
+		boolean b4 = ln2.isValidNumber() && !new LinkedNumber("7g", 16).isValidNumber();
+		boolean b5 = Digit.valueOf('A') == Digit.valueOf('A') && Digit.valueOf('9').getValue() == 9;
+		return b1 && b2 && b3 && b4 && b5;
+	}
+
+	private static boolean test13 () throws IOException {
+		StringBuilder digits = new StringBuilder();
+		for (int i = 0; i < 200000; i++) digits.append("0123456789ABCDEF".charAt(i % 16));
+		String expected = digits.toString();
+		digits.append('\n');
+		LinkedNumber ln1 = LinkedNumber.fromReader(new StringReader(digits.toString()), 16);
+		LinkedNumber ln2 = LinkedNumber.fromChannel(Channels.newChannel(
+				new ByteArrayInputStream(digits.toString().getBytes("US-ASCII"))), 16);
+		Path file = Files.createTempFile("linkednumber", ".txt");
+		LinkedNumber ln3;
+		try {
+			Files.write(file, digits.toString().getBytes("US-ASCII"));
+			ln3 = LinkedNumber.fromFile(file, 16);
+		} finally {
+			Files.delete(file);
+		}
+		boolean b1 = ln1.toString().equals(expected) && ln1.isValidNumber();
+		boolean b2 = ln2.equals(ln1) && ln3.equals(ln1) && ln3.getNumDigits() == 200000;
+		boolean b3 = !LinkedNumber.fromReader(new StringReader("1012"), 2).isValidNumber();
+		String msg = "";
+		try {
+			LinkedNumber.fromReader(new StringReader("\n"), 2);
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		String msg2 = "";
+		Pipe pipe = Pipe.open();
+		try {
+			pipe.source().configureBlocking(false);
+			LinkedNumber.fromChannel(pipe.source(), 2);
+		} catch (LinkedNumberException e) {
+			msg2 = e.getMessage();
+		} finally {
+			pipe.source().close();
+			pipe.sink().close();
+		}
+		return b1 && b2 && b3 && msg.equals("no digits given") && msg2.equals("channel must be blocking");
+	}
+
+	private static boolean test14 () {
+		LinkedNumber ln1 = new LinkedNumber("A7B433F", 16);
+		LinkedNumber ln2 = new LinkedNumber("110011001011101001", 2);
+		LinkedNumber ln3 = new LinkedNumber(2459);
+		ByteBuffer buf = ByteBuffer.allocate(ln1.serializedSize() + ln2.serializedSize() + ln3.serializedSize());
+		ln1.writeTo(buf);
+		ln2.writeTo(buf);
+		ln3.writeTo(buf);
+		buf.flip();
+		boolean b1 = LinkedNumber.readFrom(buf).equals(ln1) && LinkedNumber.readFrom(buf).equals(ln2)
+				&& LinkedNumber.readFrom(buf).equals(ln3) && !buf.hasRemaining();
+		boolean b2 = ln1.serializedSize() == 5 + 4 && ln2.serializedSize() == 5 + 3;
+		String msg = "";
+		try {
+			new LinkedNumber("1012", 2).toBytes();
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		return b1 && b2 && msg.equals("cannot serialize invalid number");
+	}
+
+	private static boolean test15 () {
+		ConversionCache cache = new ConversionCache(20);
+		boolean b1 = cache.convert(new LinkedNumber("11111111", 2), 16).toString().equals("FF");
+		boolean b2 = cache.convert(new LinkedNumber("11111111", 2), 16).toString().equals("FF");
+		boolean b3 = cache.getHits() == 1 && cache.getMisses() == 1 && cache.getStoredDigits() == 10;
+		LinkedNumber ln = new LinkedNumber("11111111", 2);
+		ln.addDigit(new Digit('0'), 0);
+		boolean b4 = cache.convert(ln, 16).toString().equals("1FE") && cache.getMisses() == 2;
+		// adding the second entry pushes the cache past 20 digits, so the first is evicted
+		boolean b5 = cache.size() == 1 && cache.getStoredDigits() == 12;
+		cache.convert(new LinkedNumber("11111111", 2), 16);
+		return b1 && b2 && b3 && b4 && b5 && cache.getMisses() == 3;
+	}
+
+	private static boolean test16 () {
+		ImmutableLinkedNumber v1 = new ImmutableLinkedNumber("ABCD", 16);
+		ImmutableLinkedNumber v2 = v1.addDigit(new Digit('7'), 0).addDigit(new Digit('5'), 5);
+		ImmutableLinkedNumber v3 = v2.addDigit(new Digit('9'), 3).addDigit(new Digit('3'), 1);
+		boolean b1 = v1.toString().equals("ABCD") && v2.toString().equals("5ABCD7") && v3.toString().equals("5AB9CD37");
+		ImmutableLinkedNumber v4 = v3.removeDigit(7).removeDigit(0);
+		boolean b2 = v4.toString().equals("AB9CD3") && v3.getNumDigits() == 8 && v4.getDigit(1).getValue() == 13;
+		boolean b3 = v4.equals(new ImmutableLinkedNumber("AB9CD3", 16)) && v4.hashCode() == new ImmutableLinkedNumber("AB9CD3", 16).hashCode();
+		boolean b4 = !v4.addDigit(new Digit('G'), 2).isValidNumber() && v4.isValidNumber();
+		LinkedNumber ln = new LinkedNumber("AB9CD3", 16);
+		boolean b5 = ImmutableLinkedNumber.of(ln).equals(v4) && v4.toLinkedNumber().equals(ln);
+		return b1 && b2 && b3 && b4 && b5;
+	}
+
+	private static boolean test17 () {
+		StringBuilder digits = new StringBuilder();
+		long expectedSum = 0;
+		for (int i = 0; i < 100000; i++) {
+			digits.append((char) ('0' + i % 7));
+			expectedSum += i % 7;
+		}
+		LinkedNumber ln = new LinkedNumber(digits.toString(), 7);
+		boolean b1 = ln.digits().asLongStream().sum() == expectedSum;
+		boolean b2 = ln.digits().parallel().asLongStream().sum() == expectedSum;
+		boolean b3 = ln.digits().parallel().filter(d -> d == 6).count() == 100000 / 7;
+		int[] firstDigits = new LinkedNumber("1027", 10).digits().toArray();
+		boolean b4 = firstDigits.length == 4 && firstDigits[0] == 1 && firstDigits[3] == 7;
+		return b1 && b2 && b3 && b4;
+	}
+
+	private static boolean test18 () {
+		String digits = "7F3A9C0B12E45D6F8A7B9C0D1E2F3A4B5C6D7E8F";
+		LinkedNumber ln = new LinkedNumber(digits, 16);
+		BigInteger value = new BigInteger(digits, 16);
+		boolean b1 = ln.mod(97) == value.mod(BigInteger.valueOf(97)).intValue();
+		boolean b2 = ln.mod(Long.MAX_VALUE - 24) == value.mod(BigInteger.valueOf(Long.MAX_VALUE - 24)).longValue();
+		boolean b3 = ln.mod(1000003L) == value.mod(BigInteger.valueOf(1000003)).longValue();
+		int[] r = ln.mod(new int[] {3, 7, Integer.MAX_VALUE});
+		boolean b4 = r[0] == value.mod(BigInteger.valueOf(3)).intValue() && r[1] == value.mod(BigInteger.valueOf(7)).intValue()
+				&& r[2] == value.mod(BigInteger.valueOf(Integer.MAX_VALUE)).intValue();
+		boolean b5 = new LinkedNumber(2459).isDivisibleBy(2459) && !new LinkedNumber("110111", 2).isDivisibleBy(2);
+		String msg = "";
+		try {
+			new LinkedNumber("1012", 2).mod(3);
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		return b1 && b2 && b3 && b4 && b5 && msg.equals("cannot compute modulus of invalid number");
+	}
+
+	private static boolean test19 () throws InterruptedException {
+		LinkedNumberAccumulator acc = new LinkedNumberAccumulator(16);
+		final ConcurrentLinkedNumberAccumulator concurrent = new ConcurrentLinkedNumberAccumulator(16, 4);
+		BigInteger expected = BigInteger.ZERO;
+		final String[] values = new String[500];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Integer.toHexString(i * 7919 + 1).toUpperCase() + "FFFFFFFF".substring(i % 8);
+			acc.add(new LinkedNumber(values[i], 16));
+			expected = expected.add(new BigInteger(values[i], 16));
+		}
+		boolean b1 = acc.sum().toString().equals(expected.toString(16).toUpperCase());
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (String v : values) concurrent.add(new LinkedNumber(v, 16));
+			});
+			threads[t].start();
+		}
+		for (Thread t : threads) t.join();
+		boolean b2 = concurrent.sum().toString().equals(expected.multiply(BigInteger.valueOf(4)).toString(16).toUpperCase());
+		acc.reset();
+		boolean b3 = acc.sum().toString().equals("0");
+		String msg = "";
+		try {
+			acc.add(new LinkedNumber(55));
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		return b1 && b2 && b3 && msg.equals("base mismatch");
+	}
+
+	private static boolean test20 () {
+		LinkedNumber ln1 = new LinkedNumber("1F", 16);
+		LinkedNumber ln2 = new LinkedNumber("1f", 16);
+		LinkedNumber ln3 = new LinkedNumber("20", 16);
+		boolean b1 = ln1.compareTo(ln3) < 0 && ln3.compareTo(new LinkedNumber("FF", 16)) < 0
+				&& new LinkedNumber("FF", 16).compareTo(new LinkedNumber("100", 16)) < 0;
+		boolean b2 = ln1.compareTo(ln2) != 0 && !ln1.equals(ln2) && ln1.compareTo(new LinkedNumber("1F", 16)) == 0;
+		boolean b3 = ln1.hashCode() == new LinkedNumber("1F", 16).hashCode();
+
+		List<LinkedNumber> numbers = new ArrayList<LinkedNumber>();
+		for (int i = 0; i < 4096; i++) {
+			numbers.add(new LinkedNumber(Integer.toString((i * 7919) % 4096, 16).toUpperCase(), 16));
+		}
+		numbers.add(ln2);
+		List<LinkedNumber> expected = new ArrayList<LinkedNumber>(numbers);
+		Collections.sort(expected);
+		LinkedNumberRadixSort.sort(numbers);
+		boolean b4 = numbers.equals(expected);
+
+		OrderedLinkedNumberIndex index = new OrderedLinkedNumberIndex(numbers);
+		List<LinkedNumber> range = index.range(new LinkedNumber("100", 16), new LinkedNumber("110", 16));
+		boolean b5 = range.size() == 16 && range.get(0).toString().equals("100") && index.contains(ln2)
+				&& index.floor(new LinkedNumber("1000", 16)).toString().equals("FFF");
+		return b1 && b2 && b3 && b4 && b5;
+	}
+
+	private static boolean test21 () throws IOException {
+		Path file = Files.createTempFile("directnumber", ".txt");
+		boolean b1, b2, b3;
+		try {
+			Files.write(file, "32175267\n".getBytes("US-ASCII"));
+			try (DirectLinkedNumber mapped = DirectLinkedNumber.map(file, 8)) {
+				b1 = mapped.getNumDigits() == 8 && mapped.toString().equals("32175267") && mapped.isValidNumber();
+				b2 = mapped.getDigit(0).getValue() == 7 && mapped.getDigit(7).getValue() == 3
+						&& mapped.mod(97) == new LinkedNumber("32175267", 8).mod(97);
+			}
+		} finally {
+			Files.delete(file);
+		}
+		DirectLinkedNumber direct = DirectLinkedNumber.of(new LinkedNumber("11101101", 2));
+		b3 = direct.convert(10).toString().equals("237") && direct.digits().sum() == 6
+				&& !DirectLinkedNumber.fromString("1012", 2).isValidNumber();
+		direct.close();
+		String msg = "";
+		try {
+			direct.toString();
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		return b1 && b2 && b3 && msg.equals("number is closed");
+	}
+
+	private static boolean test22 () throws InterruptedException {
+		List<LinkedNumber> numbers = new ArrayList<LinkedNumber>();
+		for (int i = 0; i < 5000; i++) {
+			numbers.add(i == 1234 ? new LinkedNumber("101210", 2) : new LinkedNumber(i));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<LinkedNumberBatchConverter.Result> results;
+		try {
+			results = new LinkedNumberBatchConverter(executor, 100).convertAll(numbers, 16);
+		} finally {
+			executor.shutdown();
+		}
+		boolean b1 = results.size() == 5000 && results.get(255).getNumber().toString().equals("FF")
+				&& results.get(4999).getNumber().toString().equals("1387");
+		boolean b2 = !results.get(1234).isSuccess()
+				&& results.get(1234).getError().getMessage().equals("cannot convert invalid number");
+		return b1 && b2;
+	}
+
+	private static boolean test23 () {
+		LinkedNumberMetrics.reset();
+		LinkedNumber ln = new LinkedNumber("11101101", 2);
+		ln.convert(10);
+		boolean b1 = LinkedNumberMetrics.getCount(LinkedNumberMetrics.Operation.CONVERT, 2, 10) == 0
+				&& !LinkedNumberMetrics.isEnabled() && !LinkedNumberMetrics.isThreadBeanLoaded();
+		LinkedNumberMetrics.enable();
+		try {
+			ln.convert(10);
+			ln.convert(10);
+			ln.isValidNumber();
+			ln.addDigit(new Digit('1'), 0);
+		} finally {
+			LinkedNumberMetrics.disable();
+		}
+		boolean b2 = LinkedNumberMetrics.getCount(LinkedNumberMetrics.Operation.CONVERT, 2, 10) == 2
+				&& LinkedNumberMetrics.getCount(LinkedNumberMetrics.Operation.IS_VALID_NUMBER, 2, 2) == 1
+				&& LinkedNumberMetrics.getCount(LinkedNumberMetrics.Operation.ADD_DIGIT, 2, 2) == 1;
+		long total = 0;
+		for (long c : LinkedNumberMetrics.getLatencyHistogram(LinkedNumberMetrics.Operation.CONVERT, 0)) total += c;
+		boolean b3 = total == 2 && LinkedNumberMetrics.digitBucket(1000) == 3 && LinkedNumberMetrics.isThreadBeanLoaded();
+		LinkedNumberMetrics.reset();
+		return b1 && b2 && b3;
+	}
+
+	private static boolean test24 () {
+		LinkedNumber ln1 = new LinkedNumber("13772053", 8);
+		boolean b1 = ln1.convertLazily(12).toLinkedNumber().equals(ln1.convert(12));
+		String digits = "7F3A9C0B12E45D6F8A7B9C0D1E2F3A4B5C6D7E8F";
+		LazyConversion lazy = new LinkedNumber(digits, 16).convertLazily(10);
+		String expected = new BigInteger(digits, 16).toString();
+		boolean b2 = lazy.lastDigits(4).equals(expected.substring(expected.length() - 4))
+				&& lazy.getDigit(0).getValue() == expected.charAt(expected.length() - 1) - '0';
+		boolean b3 = lazy.getNumDigits() == expected.length() && lazy.toLinkedNumber().toString().equals(expected);
+		boolean b4 = new LinkedNumber("000", 2).convertLazily(10).lastDigits(5).equals("0");
+		return b1 && b2 && b3 && b4;
+	}
 	
 	
 	public static void main(String[] args)  {
@@ -188,6 +499,90 @@ public class TestLinkedNumber {
 		} catch (Exception e) { System.out.println("Test 10 Failed (exception)");
 		e.printStackTrace();
 		}
+		
+		// add and remove digit deep inside a long number
+		try {
+			if (test11()) System.out.println("Test 11 Passed");
+			else System.out.println("Test 11 Failed");
+		} catch (Exception e) { System.out.println("Test 11 Failed (exception)"); }
+		
+		// validity is tracked through construction, addDigit and removeDigit
+		try {
+			if (test12()) System.out.println("Test 12 Passed");
+			else System.out.println("Test 12 Failed");
+		} catch (Exception e) { System.out.println("Test 12 Failed (exception)"); }
+		
+		// streaming from a reader, a channel and a mapped file
+		try {
+			if (test13()) System.out.println("Test 13 Passed");
+			else System.out.println("Test 13 Failed");
+		} catch (Exception e) { System.out.println("Test 13 Failed (exception)"); }
+		
+		// binary serialization
+		try {
+			if (test14()) System.out.println("Test 14 Passed");
+			else System.out.println("Test 14 Failed");
+		} catch (Exception e) { System.out.println("Test 14 Failed (exception)"); }
+		
+		// conversion cache
+		try {
+			if (test15()) System.out.println("Test 15 Passed");
+			else System.out.println("Test 15 Failed");
+		} catch (Exception e) { System.out.println("Test 15 Failed (exception)"); }
+		
+		// immutable versions
+		try {
+			if (test16()) System.out.println("Test 16 Passed");
+			else System.out.println("Test 16 Failed");
+		} catch (Exception e) { System.out.println("Test 16 Failed (exception)"); }
+		
+		// digit streams
+		try {
+			if (test17()) System.out.println("Test 17 Passed");
+			else System.out.println("Test 17 Failed");
+		} catch (Exception e) { System.out.println("Test 17 Failed (exception)"); }
+		
+		// modulus without conversion
+		try {
+			if (test18()) System.out.println("Test 18 Passed");
+			else System.out.println("Test 18 Failed");
+		} catch (Exception e) { System.out.println("Test 18 Failed (exception)"); }
+		
+		// accumulators
+		try {
+			if (test19()) System.out.println("Test 19 Passed");
+			else System.out.println("Test 19 Failed");
+		} catch (Exception e) { System.out.println("Test 19 Failed (exception)"); }
+		
+		// ordering, radix sort and ordered index
+		try {
+			if (test20()) System.out.println("Test 20 Passed");
+			else System.out.println("Test 20 Failed");
+		} catch (Exception e) { System.out.println("Test 20 Failed (exception)"); }
+		
+		// off-heap numbers
+		try {
+			if (test21()) System.out.println("Test 21 Passed");
+			else System.out.println("Test 21 Failed");
+		} catch (Exception e) { System.out.println("Test 21 Failed (exception)"); }
+		
+		// batch conversion
+		try {
+			if (test22()) System.out.println("Test 22 Passed");
+			else System.out.println("Test 22 Failed");
+		} catch (Exception e) { System.out.println("Test 22 Failed (exception)"); }
+		
+		// metrics
+		try {
+			if (test23()) System.out.println("Test 23 Passed");
+			else System.out.println("Test 23 Failed");
+		} catch (Exception e) { System.out.println("Test 23 Failed (exception)"); }
+		
+		// lazy conversion
+		try {
+			if (test24()) System.out.println("Test 24 Passed");
+			else System.out.println("Test 24 Failed");
+		} catch (Exception e) { System.out.println("Test 24 Failed (exception)"); }
 
 	}
 	